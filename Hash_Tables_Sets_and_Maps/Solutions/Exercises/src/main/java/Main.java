@@ -1,3 +1,7 @@
+import core.RoyaleArena;
+import models.Battlecard;
+import models.CardType;
+
 public class Main {
     public static void main(String[] args) {
         RoyaleArena arena = new RoyaleArena();
@@ -0,0 +1,410 @@
+package core;
+
+import models.Battlecard;
+import models.CardType;
+
+import java.util.*;
+
+/**
+ * Arena that stores its cards column by column instead of as {@link Battlecard} objects.
+ * <p>
+ * Row i of the arena is {@code ids[i]}, {@code types[i]}, {@code names[i]}, {@code damages[i]} and
+ * {@code swags[i]}. Names are dictionary encoded, so comparing names is comparing ints. A filter
+ * reads only the columns it needs, sequentially, so a scan streams through a few primitive arrays
+ * instead of chasing a pointer per card.
+ * <p>
+ * A removed row is tombstoned in place: its type and name become -1 and its damage and swag NaN,
+ * which every filter rejects without a separate check. The live rows are squeezed together once
+ * the tombstones outnumber them.
+ * <p>
+ * The arena returns fresh {@link Battlecard} copies of its rows, so changing a returned card does
+ * not change the arena.
+ */
+public class ColumnarArena implements IArena {
+    private static final int INITIAL_CAPACITY = 16;
+    // Compaction never runs for fewer tombstones than this.
+    private static final int MIN_TOMBSTONES = 64;
+    private static final byte DELETED = -1;
+    private static final int NO_NAME = -1;
+    private static final int NO_ROW = -1;
+    private static final CardType[] TYPES = CardType.values();
+
+    private int[] ids;
+    private byte[] types;
+    private int[] names;
+    private double[] damages;
+    private double[] swags;
+    private int rows;
+    private int tombstones;
+
+    private final IntIntHashTable rowsById;
+    private final Map<String, Integer> nameCodes;
+    private final List<String> nameDictionary;
+
+    // Row numbers matched by the last scan
+    private int[] matches;
+
+    public ColumnarArena() {
+        this.ids = new int[INITIAL_CAPACITY];
+        this.types = new byte[INITIAL_CAPACITY];
+        this.names = new int[INITIAL_CAPACITY];
+        this.damages = new double[INITIAL_CAPACITY];
+        this.swags = new double[INITIAL_CAPACITY];
+        this.matches = new int[INITIAL_CAPACITY];
+        this.rowsById = new IntIntHashTable(NO_ROW);
+        this.nameCodes = new HashMap<>();
+        this.nameDictionary = new ArrayList<>();
+    }
+
+    @Override
+    public void add(Battlecard card) {
+        int row = this.rowsById.get(card.getId());
+
+        if (row == NO_ROW) {
+            if (this.rows == this.ids.length) {
+                this.grow();
+            }
+
+            row = this.rows++;
+            this.rowsById.put(card.getId(), row);
+        }
+
+        this.ids[row] = card.getId();
+        this.types[row] = (byte) card.getType().ordinal();
+        this.names[row] = this.encode(card.getName());
+        this.damages[row] = card.getDamage();
+        this.swags[row] = card.getSwag();
+    }
+
+    @Override
+    public boolean contains(Battlecard card) {
+        return this.rowsById.containsKey(card.getId());
+    }
+
+    @Override
+    public int count() {
+        return this.rowsById.size();
+    }
+
+    @Override
+    public void changeCardType(int id, CardType type) {
+        int row = this.rowsById.get(id);
+
+        if (row == NO_ROW) {
+            throw new IllegalArgumentException();
+        }
+
+        this.types[row] = (byte) type.ordinal();
+    }
+
+    @Override
+    public Battlecard getById(int id) {
+        int row = this.rowsById.get(id);
+
+        if (row == NO_ROW) {
+            throw new UnsupportedOperationException();
+        }
+
+        return this.toCard(row);
+    }
+
+    @Override
+    public void removeById(int id) {
+        int row = this.rowsById.remove(id);
+
+        if (row == NO_ROW) {
+            throw new UnsupportedOperationException();
+        }
+
+        this.types[row] = DELETED;
+        this.names[row] = NO_NAME;
+        this.damages[row] = Double.NaN;
+        this.swags[row] = Double.NaN;
+        this.tombstones++;
+
+        if (this.tombstones >= MIN_TOMBSTONES && this.tombstones > this.rows - this.tombstones) {
+            this.compact();
+        }
+    }
+
+    // The filters below use & instead of && so the loop bodies have no branches besides the store.
+    @Override
+    public Iterable<Battlecard> getByCardType(CardType type) {
+        byte ordinal = (byte) type.ordinal();
+        int found = 0;
+
+        for (int row = 0; row < this.rows; row++) {
+            this.matches[found] = row;
+            found += this.types[row] == ordinal ? 1 : 0;
+        }
+
+        return this.nonEmpty(found, compareByDamageDescThenById());
+    }
+
+    @Override
+    public Iterable<Battlecard> getByTypeAndDamageRangeOrderedByDamageThenById(CardType type, int low, int high) {
+        byte ordinal = (byte) type.ordinal();
+        int found = 0;
+
+        for (int row = 0; row < this.rows; row++) {
+            this.matches[found] = row;
+            found += this.types[row] == ordinal & this.damages[row] > low & this.damages[row] < high ? 1 : 0;
+        }
+
+        return this.nonEmpty(found, compareByDamageDescThenById());
+    }
+
+    @Override
+    public Iterable<Battlecard> getByCardTypeAndMaximumDamage(CardType type, double damage) {
+        byte ordinal = (byte) type.ordinal();
+        int found = 0;
+
+        for (int row = 0; row < this.rows; row++) {
+            this.matches[found] = row;
+            found += this.types[row] == ordinal & this.damages[row] <= damage ? 1 : 0;
+        }
+
+        return this.nonEmpty(found, compareByDamageDescThenById());
+    }
+
+    @Override
+    public Iterable<Battlecard> getByNameOrderedBySwagDescending(String name) {
+        int code = this.nameCodes.getOrDefault(name, NO_NAME);
+        int found = 0;
+
+        // An unknown name gets -1, the tombstone code, so it must not reach the scan.
+        if (code != NO_NAME) {
+            for (int row = 0; row < this.rows; row++) {
+                this.matches[found] = row;
+                found += this.names[row] == code ? 1 : 0;
+            }
+        }
+
+        return this.nonEmpty(found, compareBySwagDescThenById());
+    }
+
+    @Override
+    public Iterable<Battlecard> getByNameAndSwagRange(String name, double low, double high) {
+        int code = this.nameCodes.getOrDefault(name, NO_NAME);
+        int found = 0;
+
+        if (code != NO_NAME) {
+            for (int row = 0; row < this.rows; row++) {
+                this.matches[found] = row;
+                found += this.names[row] == code & this.swags[row] >= low & this.swags[row] < high ? 1 : 0;
+            }
+        }
+
+        return this.nonEmpty(found, compareBySwagDescThenById());
+    }
+
+    // One pass keeps the best row per name code, ties going to the lowest id.
+    @Override
+    public Iterable<Battlecard> getAllByNameAndSwag() {
+        int[] best = new int[this.nameDictionary.size()];
+        Arrays.fill(best, -1);
+        int[] firstSeen = new int[best.length];
+        int distinct = 0;
+
+        for (int row = 0; row < this.rows; row++) {
+            int code = this.names[row];
+
+            if (code == NO_NAME) {
+                continue;
+            }
+
+            int current = best[code];
+            if (current == -1) {
+                firstSeen[distinct++] = code;
+                best[code] = row;
+            } else if (this.swags[row] > this.swags[current]
+                    || (this.swags[row] == this.swags[current] && this.ids[row] < this.ids[current])) {
+                best[code] = row;
+            }
+        }
+
+        List<Battlecard> result = new ArrayList<>(distinct);
+        for (int i = 0; i < distinct; i++) {
+            result.add(this.toCard(best[firstSeen[i]]));
+        }
+
+        return result;
+    }
+
+    @Override
+    public Iterable<Battlecard> findFirstLeastSwag(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+
+        if (this.count() < n) {
+            throw new UnsupportedOperationException();
+        }
+
+        // Tombstones carry NaN swag and fail the self comparison.
+        int found = 0;
+        for (int row = 0; row < this.rows; row++) {
+            this.matches[found] = row;
+            found += this.swags[row] == this.swags[row] ? 1 : 0;
+        }
+
+        int[] leastSwag = TopK.smallest(this.matches, found, n, (r1, r2) -> {
+            int compare = Double.compare(this.swags[r1], this.swags[r2]);
+
+            return compare != 0 ? compare : Integer.compare(this.ids[r1], this.ids[r2]);
+        });
+
+        List<Battlecard> result = new ArrayList<>(leastSwag.length);
+        for (int row : leastSwag) {
+            result.add(this.toCard(row));
+        }
+
+        return result;
+    }
+
+    @Override
+    public Iterable<Battlecard> getAllInSwagRange(double low, double high) {
+        int found = 0;
+
+        for (int row = 0; row < this.rows; row++) {
+            this.matches[found] = row;
+            found += this.swags[row] >= low & this.swags[row] <= high ? 1 : 0;
+        }
+
+        return this.collect(found, Comparator.comparingDouble(Battlecard::getSwag).thenComparingInt(Battlecard::getId));
+    }
+
+    // Live rows in the order they were first added
+    @Override
+    public Iterator<Battlecard> iterator() {
+        return new Iterator<>() {
+            private int row = this.skipTombstones(0);
+
+            @Override
+            public boolean hasNext() {
+                return this.row < ColumnarArena.this.rows;
+            }
+
+            @Override
+            public Battlecard next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                Battlecard card = ColumnarArena.this.toCard(this.row);
+                this.row = this.skipTombstones(this.row + 1);
+
+                return card;
+            }
+
+            private int skipTombstones(int row) {
+                while (row < ColumnarArena.this.rows && ColumnarArena.this.types[row] == DELETED) {
+                    row++;
+                }
+
+                return row;
+            }
+        };
+    }
+
+    // Rows that make up the arena, tombstones included
+    public int rowCount() {
+        return this.rows;
+    }
+
+    private Iterable<Battlecard> nonEmpty(int found, Comparator<Battlecard> order) {
+        if (found == 0) {
+            throw new UnsupportedOperationException();
+        }
+
+        return this.collect(found, order);
+    }
+
+    private List<Battlecard> collect(int found, Comparator<Battlecard> order) {
+        List<Battlecard> result = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            result.add(this.toCard(this.matches[i]));
+        }
+
+        result.sort(order);
+        return result;
+    }
+
+    private Battlecard toCard(int row) {
+        return new Battlecard(this.ids[row], TYPES[this.types[row]], this.nameDictionary.get(this.names[row]),
+                this.damages[row], this.swags[row]);
+    }
+
+    private int encode(String name) {
+        Integer code = this.nameCodes.get(name);
+
+        if (code == null) {
+            code = this.nameDictionary.size();
+            this.nameCodes.put(name, code);
+            this.nameDictionary.add(name);
+        }
+
+        return code;
+    }
+
+    private void grow() {
+        int capacity = 2 * this.ids.length;
+
+        this.ids = Arrays.copyOf(this.ids, capacity);
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.names = Arrays.copyOf(this.names, capacity);
+        this.damages = Arrays.copyOf(this.damages, capacity);
+        this.swags = Arrays.copyOf(this.swags, capacity);
+        // The scans store one slot past the last match, so matches stays as long as the columns.
+        this.matches = new int[capacity];
+    }
+
+    // Slides every live row down over the tombstones before it, keeping the row order.
+    private void compact() {
+        int live = 0;
+
+        for (int row = 0; row < this.rows; row++) {
+            if (this.types[row] == DELETED) {
+                continue;
+            }
+
+            if (live != row) {
+                this.ids[live] = this.ids[row];
+                this.types[live] = this.types[row];
+                this.names[live] = this.names[row];
+                this.damages[live] = this.damages[row];
+                this.swags[live] = this.swags[row];
+                this.rowsById.put(this.ids[live], live);
+            }
+
+            live++;
+        }
+
+        this.rows = live;
+        this.tombstones = 0;
+    }
+
+    private static Comparator<Battlecard> compareBySwagDescThenById() {
+        return (c1, c2) -> {
+            int compare = Double.compare(c2.getSwag(), c1.getSwag());
+
+            if (compare == 0) {
+                compare = Integer.compare(c1.getId(), c2.getId());
+            }
+
+            return compare;
+        };
+    }
+
+    private static Comparator<Battlecard> compareByDamageDescThenById() {
+        return (c1, c2) -> {
+            int compare = Double.compare(c2.getDamage(), c1.getDamage());
+
+            if (compare == 0) {
+                compare = Integer.compare(c1.getId(), c2.getId());
+            }
+
+            return compare;
+        };
+    }
+}
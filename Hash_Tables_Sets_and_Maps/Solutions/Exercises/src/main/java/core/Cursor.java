@@ -0,0 +1,84 @@
+package core;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy, read-only window over a query result.
+ * <p>
+ * Nothing is copied: iterating skips {@code offset} elements of the source and stops after
+ * {@code limit} more, so reading the first page of a million-card result touches only that page.
+ * {@link #offset} and {@link #limit} return new cursors and apply to the elements this cursor
+ * yields, so {@code offset(50).limit(50)} is the second page of fifty.
+ */
+public class Cursor<T> implements Iterable<T> {
+    private final Collection<? extends T> source;
+    private final int offset;
+    private final int limit;
+
+    public Cursor(Collection<? extends T> source) {
+        this(source, 0, Integer.MAX_VALUE);
+    }
+
+    private Cursor(Collection<? extends T> source, int offset, int limit) {
+        this.source = source;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    public Cursor<T> offset(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative: " + offset);
+        }
+
+        int skipped = (int) Math.min((long) this.offset + offset, Integer.MAX_VALUE);
+        return new Cursor<>(this.source, skipped, Math.max(0, this.limit - offset));
+    }
+
+    public Cursor<T> limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative: " + limit);
+        }
+
+        return new Cursor<>(this.source, this.offset, Math.min(this.limit, limit));
+    }
+
+    // Number of elements the cursor yields. Nothing is built, though counting a range of a sorted
+    // index still walks the range.
+    public int count() {
+        return (int) Math.max(0, Math.min((long) this.source.size() - this.offset, this.limit));
+    }
+
+    public boolean isEmpty() {
+        return this.count() == 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<? extends T> elements = this.source.iterator();
+
+        for (int i = 0; i < this.offset && elements.hasNext(); i++) {
+            elements.next();
+        }
+
+        return new Iterator<>() {
+            private int remaining = Cursor.this.limit;
+
+            @Override
+            public boolean hasNext() {
+                return this.remaining > 0 && elements.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                this.remaining--;
+                return elements.next();
+            }
+        };
+    }
+}
@@ -1,3 +1,15 @@
+package core;
+
+import models.Battlecard;
+import models.CardType;
+
+/**
+ * The query results may be live, read-only views of the arena rather than copies, as they are in
+ * {@link RoyaleArena}. Such a view fails with a {@link java.util.ConcurrentModificationException}
+ * if the arena is written to while it is iterated, so a caller that removes or changes cards in
+ * its loop copies the result first. Cards handed out keep their place in the arena's indexes, so
+ * they are changed only through the arena, never through their own setters.
+ */
 public interface IArena extends Iterable<Battlecard> {
     void add(Battlecard card);
 
@@ -25,5 +37,6 @@ public interface IArena extends Iterable<Battlecard> {
 
     Iterable<Battlecard> findFirstLeastSwag(int n);
 
+    // Swag ascending; cards with equal swag come in id order, like findFirstLeastSwag.
     Iterable<Battlecard> getAllInSwagRange(double lo, double hi);
 }
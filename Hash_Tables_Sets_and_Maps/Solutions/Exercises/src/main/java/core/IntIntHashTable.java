@@ -0,0 +1,147 @@
+package core;
+
+/**
+ * Hash table from primitive ints to primitive ints, the unboxed sibling of
+ * {@link IntObjectHashTable} for values that are ints themselves, such as row numbers.
+ * <p>
+ * Keys and values sit side by side in plain arrays, probed linearly and kept at most half full.
+ * There is no null, so a missing key is answered with the {@code missingValue} given to the
+ * constructor, which should be a value the caller never stores.
+ */
+public class IntIntHashTable {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int missingValue;
+
+    private int[] keys;
+    private int[] values;
+    private boolean[] occupied;
+    private int mask;
+    private int size;
+
+    public IntIntHashTable(int missingValue) {
+        this(INITIAL_CAPACITY, missingValue);
+    }
+
+    public IntIntHashTable(int capacity, int missingValue) {
+        int slots = 2 * INITIAL_CAPACITY;
+        while (slots < 2 * capacity) {
+            slots <<= 1;
+        }
+
+        this.missingValue = missingValue;
+        this.allocate(slots);
+    }
+
+    public int get(int key) {
+        int slot = this.findSlot(key);
+        return this.occupied[slot] ? this.values[slot] : this.missingValue;
+    }
+
+    public boolean containsKey(int key) {
+        return this.occupied[this.findSlot(key)];
+    }
+
+    // Returns the previous value of the key or the missing value.
+    public int put(int key, int value) {
+        int slot = this.findSlot(key);
+
+        if (this.occupied[slot]) {
+            int previous = this.values[slot];
+            this.values[slot] = value;
+            return previous;
+        }
+
+        if (2 * (this.size + 1) > this.keys.length) {
+            this.rehash(2 * this.keys.length);
+            slot = this.findSlot(key);
+        }
+
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.occupied[slot] = true;
+        this.size++;
+
+        return this.missingValue;
+    }
+
+    // Returns the removed value or the missing value.
+    public int remove(int key) {
+        int slot = this.findSlot(key);
+
+        if (!this.occupied[slot]) {
+            return this.missingValue;
+        }
+
+        int previous = this.values[slot];
+        this.deleteSlot(slot);
+        this.size--;
+
+        return previous;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int missingValue() {
+        return this.missingValue;
+    }
+
+    // The key's slot, or the free slot that ends its probe run
+    private int findSlot(int key) {
+        int slot = IntProbing.home(key, this.mask);
+
+        while (this.occupied[slot] && this.keys[slot] != key) {
+            slot = IntProbing.next(slot, this.mask);
+        }
+
+        return slot;
+    }
+
+    // Backward-shift deletion (see IntProbing), so the probe runs need no tombstones.
+    private void deleteSlot(int hole) {
+        int slot = IntProbing.next(hole, this.mask);
+
+        while (this.occupied[slot]) {
+            if (IntProbing.mayFillHole(this.keys[slot], slot, hole, this.mask)) {
+                this.keys[hole] = this.keys[slot];
+                this.values[hole] = this.values[slot];
+                this.occupied[hole] = true;
+                hole = slot;
+            }
+
+            slot = IntProbing.next(slot, this.mask);
+        }
+
+        this.occupied[hole] = false;
+    }
+
+    private void rehash(int slots) {
+        int[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+        boolean[] oldOccupied = this.occupied;
+
+        this.allocate(slots);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldOccupied[i]) {
+                int slot = this.findSlot(oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+                this.occupied[slot] = true;
+            }
+        }
+    }
+
+    private void allocate(int slots) {
+        this.keys = new int[slots];
+        this.values = new int[slots];
+        this.occupied = new boolean[slots];
+        this.mask = slots - 1;
+    }
+}
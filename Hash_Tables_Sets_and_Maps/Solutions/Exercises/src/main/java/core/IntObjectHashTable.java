@@ -0,0 +1,249 @@
+package core;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Hash table keyed by primitive ints, so lookups never box the key.
+ * <p>
+ * Entries are appended to dense {@code int[]} / {@code Object[]} arrays in insertion order and an
+ * open addressing index ({@code int[]}, linear probing) maps a key to its entry position. Iteration
+ * therefore follows insertion order, the same as the {@code LinkedHashMap} it replaces. Removed
+ * entries leave a hole that is squeezed out the next time the entry arrays fill up.
+ */
+public class IntObjectHashTable<V> implements Iterable<V> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int FREE = 0;
+    private static final Object REMOVED = new Object();
+
+    // Entry position + 1 for every occupied slot, FREE otherwise
+    private int[] index;
+    private int mask;
+
+    private int[] keys;
+    private Object[] values;
+    private int used;
+    private int size;
+    private int modifications;
+
+    public IntObjectHashTable() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public IntObjectHashTable(int capacity) {
+        int entries = INITIAL_CAPACITY;
+        while (entries < capacity) {
+            entries <<= 1;
+        }
+
+        this.keys = new int[entries];
+        this.values = new Object[entries];
+        this.allocateIndex(2 * entries);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int entry = this.findEntry(key);
+        return entry < 0 ? null : (V) this.values[entry];
+    }
+
+    public boolean containsKey(int key) {
+        return this.findEntry(key) >= 0;
+    }
+
+    /**
+     * Returns the previous value of the key or {@code null}. Replacing keeps the original position
+     * in the iteration order.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+
+        int slot = IntProbing.home(key, this.mask);
+        while (this.index[slot] != FREE) {
+            int entry = this.index[slot] - 1;
+
+            if (this.keys[entry] == key) {
+                V previous = (V) this.values[entry];
+                this.values[entry] = value;
+                return previous;
+            }
+
+            slot = IntProbing.next(slot, this.mask);
+        }
+
+        if (this.used == this.keys.length) {
+            this.resizeEntries();
+            slot = this.freeSlotFor(key);
+        }
+
+        this.keys[this.used] = key;
+        this.values[this.used] = value;
+        this.index[slot] = ++this.used;
+        this.size++;
+        this.modifications++;
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = IntProbing.home(key, this.mask);
+
+        while (this.index[slot] != FREE) {
+            int entry = this.index[slot] - 1;
+
+            if (this.keys[entry] == key) {
+                V previous = (V) this.values[entry];
+                this.values[entry] = REMOVED;
+                this.deleteSlot(slot);
+                this.size--;
+                this.modifications++;
+
+                return previous;
+            }
+
+            slot = IntProbing.next(slot, this.mask);
+        }
+
+        return null;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(this.index, FREE);
+        Arrays.fill(this.values, 0, this.used, null);
+        this.used = 0;
+        this.size = 0;
+        this.modifications++;
+    }
+
+    public Stream<V> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliterator(this.iterator(), this.size, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new ValueIterator();
+    }
+
+    private int findEntry(int key) {
+        int slot = IntProbing.home(key, this.mask);
+
+        while (this.index[slot] != FREE) {
+            int entry = this.index[slot] - 1;
+
+            if (this.keys[entry] == key) {
+                return entry;
+            }
+
+            slot = IntProbing.next(slot, this.mask);
+        }
+
+        return -1;
+    }
+
+    private int freeSlotFor(int key) {
+        int slot = IntProbing.home(key, this.mask);
+
+        while (this.index[slot] != FREE) {
+            slot = IntProbing.next(slot, this.mask);
+        }
+
+        return slot;
+    }
+
+    // Backward-shift deletion: pull every later member of the probe run that may legally sit in
+    // the hole into it, so lookups never need tombstones in the index.
+    private void deleteSlot(int hole) {
+        int slot = IntProbing.next(hole, this.mask);
+
+        while (this.index[slot] != FREE) {
+            if (IntProbing.mayFillHole(this.keys[this.index[slot] - 1], slot, hole, this.mask)) {
+                this.index[hole] = this.index[slot];
+                hole = slot;
+            }
+
+            slot = IntProbing.next(slot, this.mask);
+        }
+
+        this.index[hole] = FREE;
+    }
+
+    private void resizeEntries() {
+        // Mostly holes -> compacting in place is enough, otherwise the entry arrays double.
+        int capacity = this.size <= this.used / 2 ? this.keys.length : 2 * this.keys.length;
+
+        int[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        if (this.index.length < 2 * capacity) {
+            this.allocateIndex(2 * capacity);
+        } else {
+            Arrays.fill(this.index, FREE);
+        }
+
+        int position = 0;
+        for (int i = 0; i < this.used; i++) {
+            if (oldValues[i] != REMOVED) {
+                this.keys[position] = oldKeys[i];
+                this.values[position] = oldValues[i];
+                this.index[this.freeSlotFor(oldKeys[i])] = ++position;
+            }
+        }
+
+        this.used = position;
+    }
+
+    private void allocateIndex(int capacity) {
+        this.index = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    private class ValueIterator implements Iterator<V> {
+        private final int expectedModifications = modifications;
+        private int position = 0;
+
+        @Override
+        public boolean hasNext() {
+            while (this.position < used && values[this.position] == REMOVED) {
+                this.position++;
+            }
+
+            return this.position < used;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            if (this.expectedModifications != modifications) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return (V) values[this.position++];
+        }
+    }
+}
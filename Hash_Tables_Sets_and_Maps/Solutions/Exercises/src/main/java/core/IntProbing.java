@@ -0,0 +1,36 @@
+package core;
+
+/**
+ * Slot arithmetic shared by the open addressing tables keyed by primitive ints,
+ * {@link IntObjectHashTable} and {@link IntIntHashTable}. Both probe linearly over a power-of-two
+ * number of slots and delete by backward shift, so their probe runs never hold tombstones.
+ */
+final class IntProbing {
+
+    private IntProbing() {
+    }
+
+    // First slot probed for the key; mask is the slot count minus one.
+    static int home(int key, int mask) {
+        return mix(key) & mask;
+    }
+
+    static int next(int slot, int mask) {
+        return (slot + 1) & mask;
+    }
+
+    /**
+     * Whether the key sitting in {@code slot}, met while scanning forward from a hole, may move
+     * back into the hole: it may if its home is no further along the run than the hole, so its
+     * lookups still pass the hole on the way to it.
+     */
+    static boolean mayFillHole(int key, int slot, int hole, int mask) {
+        return ((slot - home(key, mask)) & mask) >= ((slot - hole) & mask);
+    }
+
+    // One multiply by 2^32 / phi and a fold of the high half, so sequential ids spread out.
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
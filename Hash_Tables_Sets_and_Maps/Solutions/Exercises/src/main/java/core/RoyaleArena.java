@@ -0,0 +1,415 @@
+package core;
+
+import models.Battlecard;
+import models.CardType;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * The range queries read sorted indexes that every write keeps up to date, so a query costs
+ * O(log n + k) instead of a scan and a sort. The indexes are keyed on a card's type, name, damage
+ * and swag; of those, only the type and the swag may change while the card is in the arena, through
+ * {@link #changeCardType} and {@link #changeSwag}.
+ */
+public class RoyaleArena implements IArena {
+    private final IntObjectHashTable<Battlecard> battlecardsById;
+    // Damage descending, then id
+    private final Map<CardType, NavigableSet<Battlecard>> battlecardsByType;
+    // Swag descending, then id
+    private final Map<String, NavigableSet<Battlecard>> battlecardsByName;
+    // Swag ascending, then id
+    private final NavigableSet<Battlecard> battlecardsBySwag;
+    // First card of every name index, in the order the names showed up
+    private final Map<String, Battlecard> highestSwagByName;
+    private final Cursor<Battlecard> highestSwagView;
+
+    public RoyaleArena() {
+        this.battlecardsById = new IntObjectHashTable<>();
+        this.battlecardsByType = new EnumMap<>(CardType.class);
+        this.battlecardsByName = new HashMap<>();
+        this.battlecardsBySwag = new TreeSet<>(compareBySwagThenById());
+        this.highestSwagByName = new LinkedHashMap<>();
+        this.highestSwagView = new Cursor<>(this.highestSwagByName.values());
+    }
+
+    // Copies the table and the indexes in O(n), sharing the cards themselves.
+    RoyaleArena(RoyaleArena other) {
+        this.battlecardsById = new IntObjectHashTable<>(other.count());
+        for (Battlecard card : other.battlecardsById) {
+            this.battlecardsById.put(card.getId(), card);
+        }
+
+        this.battlecardsByType = new EnumMap<>(CardType.class);
+        other.battlecardsByType.forEach((type, cards) -> this.battlecardsByType.put(type, new TreeSet<>(cards)));
+        this.battlecardsByName = new HashMap<>();
+        other.battlecardsByName.forEach((name, cards) -> this.battlecardsByName.put(name, new TreeSet<>(cards)));
+        this.battlecardsBySwag = new TreeSet<>(other.battlecardsBySwag);
+        this.highestSwagByName = new LinkedHashMap<>(other.highestSwagByName);
+        this.highestSwagView = new Cursor<>(this.highestSwagByName.values());
+    }
+
+    @Override
+    public void add(Battlecard card) {
+        Battlecard previous = this.battlecardsById.put(card.getId(), card);
+
+        if (previous != null) {
+            this.removeFromIndexes(previous);
+        }
+
+        this.addToIndexes(card);
+    }
+
+    /**
+     * Adds every card as {@link #add} would, but defers the indexes: the cards go into the id table
+     * first, then each index is refilled in one pass from a parallel sort of all the cards. A sorted
+     * run becomes a balanced tree in linear time, so loading n cards costs one O(n log n) sort per
+     * index instead of n tree insertions into each.
+     * <p>
+     * The indexes are cleared and refilled in place, so a query result taken before the call sees
+     * the new cards afterwards, and one being iterated across the call fails as after any write.
+     * <p>
+     * Refilling also re-sorts the cards already in the arena, so a batch smaller than the arena
+     * goes through {@link #add} one card at a time.
+     */
+    public void addAll(Collection<Battlecard> cards) {
+        if (cards.size() < this.count()) {
+            cards.forEach(this::add);
+            return;
+        }
+
+        // A replaced card keeps its place in the id table, as it would after add.
+        for (Battlecard card : cards) {
+            this.battlecardsById.put(card.getId(), card);
+        }
+
+        // Id table order, which is what the incremental adds would have left behind
+        Battlecard[] all = new Battlecard[this.battlecardsById.size()];
+        int next = 0;
+        for (Battlecard card : this.battlecardsById) {
+            all[next++] = card;
+        }
+
+        refillSorted(this.battlecardsBySwag, all);
+        refillGrouped(this.battlecardsByType, all, Battlecard::getType, t -> new TreeSet<>(compareByDamageDescThenById()));
+        refillGrouped(this.battlecardsByName, all, Battlecard::getName, n -> new TreeSet<>(compareBySwagDescThenById()));
+        // A replaced card may have taken the last card of its name with it, and add drops such names.
+        this.battlecardsByName.values().removeIf(Set::isEmpty);
+
+        // Names already in the view keep their place, as they would after incremental adds.
+        List<String> names = new ArrayList<>(this.highestSwagByName.keySet());
+        this.highestSwagByName.clear();
+        for (String name : names) {
+            if (this.battlecardsByName.containsKey(name)) {
+                this.highestSwagByName.put(name, this.battlecardsByName.get(name).first());
+            }
+        }
+        for (Battlecard card : all) {
+            if (!this.highestSwagByName.containsKey(card.getName())) {
+                this.highestSwagByName.put(card.getName(), this.battlecardsByName.get(card.getName()).first());
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(Battlecard card) {
+        return this.battlecardsById.containsKey(card.getId());
+    }
+
+    @Override
+    public int count() {
+        return this.battlecardsById.size();
+    }
+
+    @Override
+    public void changeCardType(int id, CardType type) {
+        Battlecard battlecard = this.battlecardsById.get(id);
+
+        if (battlecard == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.battlecardsByType.get(battlecard.getType()).remove(battlecard);
+        battlecard.setType(type);
+        this.battlecardsByType.computeIfAbsent(type, t -> new TreeSet<>(compareByDamageDescThenById())).add(battlecard);
+    }
+
+    public void changeSwag(int id, double swag) {
+        Battlecard battlecard = this.battlecardsById.get(id);
+
+        if (battlecard == null) {
+            throw new IllegalArgumentException();
+        }
+
+        // Swag orders the name and swag indexes, so the card leaves them before it changes.
+        NavigableSet<Battlecard> withName = this.battlecardsByName.get(battlecard.getName());
+        withName.remove(battlecard);
+        this.battlecardsBySwag.remove(battlecard);
+
+        battlecard.setSwag(swag);
+
+        withName.add(battlecard);
+        this.battlecardsBySwag.add(battlecard);
+        this.highestSwagByName.put(battlecard.getName(), withName.first());
+    }
+
+    @Override
+    public Battlecard getById(int id) {
+        Battlecard battlecard = this.battlecardsById.get(id);
+
+        if (battlecard == null) {
+            throw new UnsupportedOperationException();
+        }
+
+        return battlecard;
+    }
+
+    // Null instead of an exception when the id is missing
+    Battlecard battlecardById(int id) {
+        return this.battlecardsById.get(id);
+    }
+
+    @Override
+    public void removeById(int id) {
+        Battlecard battlecard = this.battlecardsById.remove(id);
+
+        if (battlecard == null) {
+            throw new UnsupportedOperationException();
+        }
+
+        this.removeFromIndexes(battlecard);
+    }
+
+    // The queries below return cursors over the indexes. Nothing is copied, so a result sees the
+    // writes made before it is read, and a write while it is read fails fast (see IArena).
+    @Override
+    public Cursor<Battlecard> getByCardType(CardType type) {
+        return this.nonEmpty(this.battlecardsByType.get(type));
+    }
+
+    @Override
+    public Cursor<Battlecard> getByTypeAndDamageRangeOrderedByDamageThenById(CardType type, int low, int high) {
+        NavigableSet<Battlecard> withType = this.battlecardsByType.get(type);
+
+        if (withType == null || low >= high) {
+            throw new UnsupportedOperationException();
+        }
+
+        // Damage runs high to low, so the range starts after high and stops before low.
+        return this.nonEmpty(withType.subSet(probe(high, 0, Integer.MAX_VALUE), false, probe(low, 0, Integer.MIN_VALUE), false));
+    }
+
+    @Override
+    public Cursor<Battlecard> getByCardTypeAndMaximumDamage(CardType type, double damage) {
+        NavigableSet<Battlecard> withType = this.battlecardsByType.get(type);
+
+        if (withType == null) {
+            throw new UnsupportedOperationException();
+        }
+
+        return this.nonEmpty(withType.tailSet(probe(damage, 0, Integer.MIN_VALUE), true));
+    }
+
+    @Override
+    public Cursor<Battlecard> getByNameOrderedBySwagDescending(String name) {
+        return this.nonEmpty(this.battlecardsByName.get(name));
+    }
+
+    @Override
+    public Cursor<Battlecard> getByNameAndSwagRange(String name, double low, double high) {
+        NavigableSet<Battlecard> withName = this.battlecardsByName.get(name);
+
+        if (withName == null || low >= high) {
+            throw new UnsupportedOperationException();
+        }
+
+        return this.nonEmpty(withName.subSet(probe(0, high, Integer.MAX_VALUE), false, probe(0, low, Integer.MAX_VALUE), true));
+    }
+
+    // The highest swag card of every name, ties going to the lowest id. The view is kept up to date
+    // by the writes, so this call does no work.
+    @Override
+    public Cursor<Battlecard> getAllByNameAndSwag() {
+        return this.highestSwagView;
+    }
+
+    // The n cards at the head of the swag index, reached in O(log N + n) as the cursor is read
+    @Override
+    public Cursor<Battlecard> findFirstLeastSwag(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+
+        if (this.count() < n) {
+            throw new UnsupportedOperationException();
+        }
+
+        return new Cursor<>(this.battlecardsBySwag).limit(n);
+    }
+
+    @Override
+    public Cursor<Battlecard> getAllInSwagRange(double low, double high) {
+        if (low > high) {
+            return new Cursor<>(Collections.emptyList());
+        }
+
+        return new Cursor<>(this.battlecardsBySwag.subSet(probe(0, low, Integer.MIN_VALUE), true, probe(0, high, Integer.MAX_VALUE), true));
+    }
+
+    @Override
+    public Iterator<Battlecard> iterator() {
+        return this.battlecardsById.iterator();
+    }
+
+    private void addToIndexes(Battlecard card) {
+        this.battlecardsByType.computeIfAbsent(card.getType(), t -> new TreeSet<>(compareByDamageDescThenById())).add(card);
+        NavigableSet<Battlecard> withName = this.battlecardsByName.computeIfAbsent(card.getName(), n -> new TreeSet<>(compareBySwagDescThenById()));
+        withName.add(card);
+        this.highestSwagByName.put(card.getName(), withName.first());
+        this.battlecardsBySwag.add(card);
+    }
+
+    private void removeFromIndexes(Battlecard card) {
+        this.battlecardsByType.get(card.getType()).remove(card);
+
+        NavigableSet<Battlecard> withName = this.battlecardsByName.get(card.getName());
+        withName.remove(card);
+        if (withName.isEmpty()) {
+            this.battlecardsByName.remove(card.getName());
+            this.highestSwagByName.remove(card.getName());
+        } else {
+            this.highestSwagByName.put(card.getName(), withName.first());
+        }
+
+        this.battlecardsBySwag.remove(card);
+    }
+
+    // Replaces the contents of the index with the cards. TreeSet.addAll builds its tree in linear
+    // time only from a sorted set with the very same comparator, so the run borrows the index's own.
+    private static void refillSorted(NavigableSet<Battlecard> index, Battlecard[] cards) {
+        Comparator<? super Battlecard> order = index.comparator();
+        Battlecard[] sorted = cards.clone();
+        Arrays.parallelSort(sorted, order);
+
+        index.clear();
+        index.addAll(new SortedRun(sorted, 0, sorted.length, order));
+    }
+
+    // Buckets the cards by key in one pass, then refills every key's index from its bucket alone.
+    // Indexes whose key no card has any more are left empty.
+    private static <K> void refillGrouped(Map<K, NavigableSet<Battlecard>> indexes, Battlecard[] cards,
+                                          Function<Battlecard, K> key, Function<K, NavigableSet<Battlecard>> newIndex) {
+        Map<K, List<Battlecard>> buckets = new HashMap<>();
+        for (Battlecard card : cards) {
+            buckets.computeIfAbsent(key.apply(card), k -> new ArrayList<>()).add(card);
+        }
+
+        indexes.forEach((groupKey, index) -> {
+            if (!buckets.containsKey(groupKey)) {
+                index.clear();
+            }
+        });
+        buckets.forEach((groupKey, bucket) ->
+                refillSorted(indexes.computeIfAbsent(groupKey, newIndex), bucket.toArray(new Battlecard[0])));
+    }
+
+    /**
+     * Sorted slice of an array posing as a {@link SortedSet}. It supports just what
+     * {@code TreeSet.addAll} on an empty set reads to build its tree bottom-up in linear time:
+     * the comparator, the size and the iterator.
+     */
+    private static class SortedRun extends AbstractSet<Battlecard> implements SortedSet<Battlecard> {
+        private final Battlecard[] cards;
+        private final int from;
+        private final int to;
+        private final Comparator<? super Battlecard> order;
+
+        SortedRun(Battlecard[] cards, int from, int to, Comparator<? super Battlecard> order) {
+            this.cards = cards;
+            this.from = from;
+            this.to = to;
+            this.order = order;
+        }
+
+        @Override
+        public Iterator<Battlecard> iterator() {
+            return Arrays.asList(this.cards).subList(this.from, this.to).iterator();
+        }
+
+        @Override
+        public int size() {
+            return this.to - this.from;
+        }
+
+        @Override
+        public Comparator<? super Battlecard> comparator() {
+            return this.order;
+        }
+
+        @Override
+        public SortedSet<Battlecard> subSet(Battlecard fromElement, Battlecard toElement) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SortedSet<Battlecard> headSet(Battlecard toElement) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SortedSet<Battlecard> tailSet(Battlecard fromElement) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Battlecard first() {
+            return this.cards[this.from];
+        }
+
+        @Override
+        public Battlecard last() {
+            return this.cards[this.to - 1];
+        }
+    }
+
+    // Search key for the indexes: the comparators only look at damage, swag and id.
+    private static Battlecard probe(double damage, double swag, int id) {
+        return new Battlecard(id, null, null, damage, swag);
+    }
+
+    private Cursor<Battlecard> nonEmpty(NavigableSet<Battlecard> cards) {
+        if (cards == null || cards.isEmpty()) {
+            throw new UnsupportedOperationException();
+        }
+
+        return new Cursor<>(cards);
+    }
+
+    private static Comparator<Battlecard> compareBySwagThenById() {
+        return Comparator.comparingDouble(Battlecard::getSwag).thenComparingInt(Battlecard::getId);
+    }
+
+    private static Comparator<Battlecard> compareBySwagDescThenById() {
+        return (c1, c2) -> {
+            int compare = Double.compare(c2.getSwag(), c1.getSwag());
+
+            if (compare == 0) {
+                compare = Integer.compare(c1.getId(), c2.getId());
+            }
+
+            return compare;
+        };
+    }
+
+    private static Comparator<Battlecard> compareByDamageDescThenById() {
+        return (c1, c2) -> {
+            int compare = Double.compare(c2.getDamage(), c1.getDamage());
+
+            if (compare == 0) {
+                compare = Integer.compare(c1.getId(), c2.getId());
+            }
+
+            return compare;
+        };
+    }
+}
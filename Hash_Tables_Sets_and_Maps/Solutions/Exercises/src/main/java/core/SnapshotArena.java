@@ -0,0 +1,164 @@
+package core;
+
+import models.Battlecard;
+import models.CardType;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe arena for read-heavy traffic, built on copy-on-write {@link RoyaleArena} snapshots.
+ * <p>
+ * Readers take whatever snapshot is current and query it without any lock; a published snapshot is
+ * never written again, so a reader never waits and a cursor it got keeps showing the same cards.
+ * Writers take turns: a {@link Batch} is applied to a copy of the current snapshot, which is then
+ * published with one volatile write. Copying costs O(n), so writers should batch as much as they
+ * can; a failing operation abandons its whole batch and publishes nothing.
+ * <p>
+ * Snapshots share their {@link Battlecard} objects, so a type change swaps in a new card instead
+ * of changing the shared one. Cards handed to the arena must not be changed afterwards.
+ */
+public class SnapshotArena implements IArena {
+    private final Object writeLock = new Object();
+    private volatile RoyaleArena snapshot;
+    private volatile long version;
+
+    public SnapshotArena() {
+        this.snapshot = new RoyaleArena();
+    }
+
+    /**
+     * Writes to apply together. They run in the order they were added, each one seeing the
+     * ones before it, and throw what the matching {@link IArena} method would.
+     */
+    public static class Batch {
+        private final List<Consumer<RoyaleArena>> operations = new ArrayList<>();
+
+        public Batch add(Battlecard card) {
+            this.operations.add(arena -> arena.add(card));
+            return this;
+        }
+
+        public Batch removeById(int id) {
+            this.operations.add(arena -> arena.removeById(id));
+            return this;
+        }
+
+        public Batch changeCardType(int id, CardType type) {
+            this.operations.add(arena -> {
+                Battlecard card = arena.battlecardById(id);
+
+                if (card == null) {
+                    throw new IllegalArgumentException();
+                }
+
+                arena.add(new Battlecard(id, type, card.getName(), card.getDamage(), card.getSwag()));
+            });
+            return this;
+        }
+
+        public int size() {
+            return this.operations.size();
+        }
+    }
+
+    public void apply(Batch batch) {
+        if (batch.size() == 0) {
+            return;
+        }
+
+        synchronized (this.writeLock) {
+            RoyaleArena next = new RoyaleArena(this.snapshot);
+
+            for (Consumer<RoyaleArena> operation : batch.operations) {
+                operation.accept(next);
+            }
+
+            this.snapshot = next;
+            this.version++;
+        }
+    }
+
+    // Number of snapshots published so far
+    public long version() {
+        return this.version;
+    }
+
+    // Single writes, each one a batch of its own
+    @Override
+    public void add(Battlecard card) {
+        this.apply(new Batch().add(card));
+    }
+
+    @Override
+    public void removeById(int id) {
+        this.apply(new Batch().removeById(id));
+    }
+
+    @Override
+    public void changeCardType(int id, CardType type) {
+        this.apply(new Batch().changeCardType(id, type));
+    }
+
+    @Override
+    public boolean contains(Battlecard card) {
+        return this.snapshot.contains(card);
+    }
+
+    @Override
+    public int count() {
+        return this.snapshot.count();
+    }
+
+    @Override
+    public Battlecard getById(int id) {
+        return this.snapshot.getById(id);
+    }
+
+    @Override
+    public Cursor<Battlecard> getByCardType(CardType type) {
+        return this.snapshot.getByCardType(type);
+    }
+
+    @Override
+    public Cursor<Battlecard> getByTypeAndDamageRangeOrderedByDamageThenById(CardType type, int low, int high) {
+        return this.snapshot.getByTypeAndDamageRangeOrderedByDamageThenById(type, low, high);
+    }
+
+    @Override
+    public Cursor<Battlecard> getByCardTypeAndMaximumDamage(CardType type, double damage) {
+        return this.snapshot.getByCardTypeAndMaximumDamage(type, damage);
+    }
+
+    @Override
+    public Cursor<Battlecard> getByNameOrderedBySwagDescending(String name) {
+        return this.snapshot.getByNameOrderedBySwagDescending(name);
+    }
+
+    @Override
+    public Cursor<Battlecard> getByNameAndSwagRange(String name, double low, double high) {
+        return this.snapshot.getByNameAndSwagRange(name, low, high);
+    }
+
+    @Override
+    public Cursor<Battlecard> getAllByNameAndSwag() {
+        return this.snapshot.getAllByNameAndSwag();
+    }
+
+    @Override
+    public Cursor<Battlecard> findFirstLeastSwag(int n) {
+        return this.snapshot.findFirstLeastSwag(n);
+    }
+
+    @Override
+    public Cursor<Battlecard> getAllInSwagRange(double low, double high) {
+        return this.snapshot.getAllInSwagRange(low, high);
+    }
+
+    @Override
+    public Iterator<Battlecard> iterator() {
+        return this.snapshot.iterator();
+    }
+}
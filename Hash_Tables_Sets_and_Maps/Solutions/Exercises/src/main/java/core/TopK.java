@@ -0,0 +1,80 @@
+package core;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Top-k selection for sources that have no index in the wanted order, such as the row numbers
+ * {@link ColumnarArena} collects in a scan.
+ * <p>
+ * One pass over the elements keeps the k smallest seen so far in a max-heap, so the largest of them
+ * is always on top and is the one a smaller newcomer replaces. That costs O(N log k) time and O(k)
+ * space, where sorting everything costs O(N log N) time and O(N) space.
+ */
+public final class TopK {
+
+    private TopK() {
+    }
+
+    // The k smallest of the first length ints in ascending order, fewer if there are not that many.
+    // The heap is an int[] so nothing is boxed. The comparator returns a negative, zero or positive
+    // int, the same as Comparator.compare.
+    public static int[] smallest(int[] elements, int length, int k, IntBinaryOperator comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+
+        int[] heap = new int[Math.min(k, length)];
+        int size = 0;
+
+        for (int i = 0; i < length; i++) {
+            int element = elements[i];
+
+            if (size < heap.length) {
+                siftUp(heap, size++, element, comparator);
+            } else if (size > 0 && comparator.applyAsInt(element, heap[0]) < 0) {
+                siftDown(heap, size, element, comparator);
+            }
+        }
+
+        // Popping the largest into the back leaves the heap array sorted ascending.
+        for (int last = size - 1; last > 0; last--) {
+            int largest = heap[0];
+            siftDown(heap, last, heap[last], comparator);
+            heap[last] = largest;
+        }
+
+        return heap;
+    }
+
+    private static void siftUp(int[] heap, int hole, int element, IntBinaryOperator comparator) {
+        while (hole > 0) {
+            int parent = (hole - 1) >>> 1;
+            if (comparator.applyAsInt(element, heap[parent]) <= 0) {
+                break;
+            }
+            heap[hole] = heap[parent];
+            hole = parent;
+        }
+
+        heap[hole] = element;
+    }
+
+    // Drops the top and sifts element down from the root, in a heap of the given size
+    private static void siftDown(int[] heap, int size, int element, IntBinaryOperator comparator) {
+        int hole = 0;
+        int child;
+
+        while ((child = 2 * hole + 1) < size) {
+            if (child + 1 < size && comparator.applyAsInt(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (comparator.applyAsInt(element, heap[child]) >= 0) {
+                break;
+            }
+            heap[hole] = heap[child];
+            hole = child;
+        }
+
+        heap[hole] = element;
+    }
+}
@@ -1,3 +1,5 @@
+package models;
+
 import java.util.Objects;
 
 public class Battlecard implements Comparable<Battlecard> {
@@ -0,0 +1,153 @@
+package benchmark;
+
+import core.RoyaleArena;
+import models.Battlecard;
+import models.CardType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// The scan benchmarks replay what the queries did before the indexes: filter every card, then sort.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ArenaQueryBenchmarkTests {
+
+    @Param({"1000000"})
+    private int n;
+
+    private List<Battlecard> cards;
+    private RoyaleArena arena;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.cards = Cards.generate(n);
+        this.arena = new RoyaleArena();
+
+        for (Battlecard card : this.cards) {
+            this.arena.add(card);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ArenaQueryBenchmarkTests.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public void testNameQueryWithIndex(Blackhole blackhole) {
+        for (Battlecard card : this.arena.getByNameOrderedBySwagDescending(randomName())) {
+            blackhole.consume(card);
+        }
+    }
+
+    @Benchmark
+    public List<Battlecard> testNameQueryWithScan() {
+        String name = randomName();
+
+        return this.cards.stream()
+                .filter(c -> c.getName().equals(name))
+                .sorted(Comparator.comparingDouble(Battlecard::getSwag).reversed().thenComparingInt(Battlecard::getId))
+                .collect(Collectors.toList());
+    }
+
+    // A narrow damage window: a few hundred cards out of a million
+    @Benchmark
+    public void testDamageRangeWithIndex(Blackhole blackhole) {
+        int low = ThreadLocalRandom.current().nextInt(99);
+
+        for (Battlecard card : this.arena.getByTypeAndDamageRangeOrderedByDamageThenById(CardType.MELEE, low, low + 1)) {
+            blackhole.consume(card);
+        }
+    }
+
+    @Benchmark
+    public List<Battlecard> testDamageRangeWithScan() {
+        int low = ThreadLocalRandom.current().nextInt(99);
+
+        return this.cards.stream()
+                .filter(c -> c.getType() == CardType.MELEE && c.getDamage() > low && c.getDamage() < low + 1)
+                .sorted(Comparator.comparingDouble(Battlecard::getDamage).reversed().thenComparingInt(Battlecard::getId))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void testSwagRangeWithIndex(Blackhole blackhole) {
+        double low = ThreadLocalRandom.current().nextInt(9999) / 100.0;
+
+        for (Battlecard card : this.arena.getAllInSwagRange(low, low + 0.1)) {
+            blackhole.consume(card);
+        }
+    }
+
+    @Benchmark
+    public List<Battlecard> testSwagRangeWithScan() {
+        double low = ThreadLocalRandom.current().nextInt(9999) / 100.0;
+
+        return this.cards.stream()
+                .filter(c -> c.getSwag() >= low && c.getSwag() <= low + 0.1)
+                .sorted(Comparator.comparingDouble(Battlecard::getSwag))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void testHighestSwagPerNameWithView(Blackhole blackhole) {
+        for (Battlecard card : this.arena.getAllByNameAndSwag()) {
+            blackhole.consume(card);
+        }
+    }
+
+    @Benchmark
+    public Collection<Battlecard> testHighestSwagPerNameWithScan() {
+        Map<String, Battlecard> cardsByName = new LinkedHashMap<>();
+
+        for (Battlecard card : this.cards) {
+            Battlecard highest = cardsByName.get(card.getName());
+            if (highest == null || card.getSwag() > highest.getSwag()) {
+                cardsByName.put(card.getName(), card);
+            }
+        }
+
+        return cardsByName.values();
+    }
+
+    // Every card is in range, so the old copy held n references for a page of fifty.
+    @Benchmark
+    public void testFirstPageWithCursor(Blackhole blackhole) {
+        for (Battlecard card : this.arena.getAllInSwagRange(0, 100).limit(50)) {
+            blackhole.consume(card);
+        }
+    }
+
+    @Benchmark
+    public List<Battlecard> testFirstPageWithCopy() {
+        List<Battlecard> all = new ArrayList<>(this.arena.getAllInSwagRange(0, 100).count());
+        this.arena.getAllInSwagRange(0, 100).forEach(all::add);
+
+        return all.subList(0, 50);
+    }
+
+    private static String randomName() {
+        return "card" + ThreadLocalRandom.current().nextInt(1000);
+    }
+}
@@ -0,0 +1,58 @@
+package benchmark;
+
+import core.RoyaleArena;
+import models.Battlecard;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx8G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class BulkLoadBenchmarkTests {
+
+    @Param({"1000000", "5000000"})
+    private int n;
+
+    private List<Battlecard> cards;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.cards = Cards.generate(n);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BulkLoadBenchmarkTests.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public RoyaleArena testRepeatedAdd() {
+        RoyaleArena arena = new RoyaleArena();
+
+        for (Battlecard card : this.cards) {
+            arena.add(card);
+        }
+
+        return arena;
+    }
+
+    @Benchmark
+    public RoyaleArena testAddAll() {
+        RoyaleArena arena = new RoyaleArena();
+        arena.addAll(this.cards);
+
+        return arena;
+    }
+}
@@ -0,0 +1,32 @@
+package benchmark;
+
+import models.Battlecard;
+import models.CardType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class Cards {
+    private static final CardType[] TYPES = CardType.values();
+
+    private Cards() {
+    }
+
+    // Deterministic card set with ids 0..n-1, a thousand distinct names and swag/damage in [0, 100)
+    static List<Battlecard> generate(int n) {
+        Random random = new Random(42);
+        List<Battlecard> cards = new ArrayList<>(n);
+
+        for (int i = 0; i < n; i++) {
+            cards.add(new Battlecard(
+                    i,
+                    TYPES[random.nextInt(TYPES.length)],
+                    "card" + random.nextInt(1000),
+                    random.nextInt(10000) / 100.0,
+                    random.nextInt(10000) / 100.0));
+        }
+
+        return cards;
+    }
+}
@@ -0,0 +1,92 @@
+package benchmark;
+
+import core.ColumnarArena;
+import core.IArena;
+import core.RoyaleArena;
+import models.Battlecard;
+import models.CardType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// Wide ranges on purpose: the indexed arena wins narrow ones, these measure the scans.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ColumnarArenaBenchmarkTests {
+
+    @Param({"1000000"})
+    private int n;
+
+    @Param({"royale", "columnar"})
+    private String arenaType;
+
+    private IArena arena;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.arena = arenaType.equals("royale") ? new RoyaleArena() : new ColumnarArena();
+
+        for (Battlecard card : Cards.generate(n)) {
+            this.arena.add(card);
+        }
+
+        // A tenth of the rows as tombstones, below the compaction threshold
+        for (int id = 0; id < n; id += 10) {
+            this.arena.removeById(id);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ColumnarArenaBenchmarkTests.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public void testDamageRange(Blackhole blackhole) {
+        consume(this.arena.getByTypeAndDamageRangeOrderedByDamageThenById(CardType.MELEE, 10, 20), blackhole);
+    }
+
+    @Benchmark
+    public void testMaximumDamage(Blackhole blackhole) {
+        consume(this.arena.getByCardTypeAndMaximumDamage(CardType.RANGED, 5), blackhole);
+    }
+
+    @Benchmark
+    public void testNameAndSwagRange(Blackhole blackhole) {
+        consume(this.arena.getByNameAndSwagRange("card500", 25, 75), blackhole);
+    }
+
+    @Benchmark
+    public void testSwagRange(Blackhole blackhole) {
+        consume(this.arena.getAllInSwagRange(40, 41), blackhole);
+    }
+
+    @Benchmark
+    public void testHighestSwagPerName(Blackhole blackhole) {
+        consume(this.arena.getAllByNameAndSwag(), blackhole);
+    }
+
+    @Benchmark
+    public void testFirstLeastSwag(Blackhole blackhole) {
+        consume(this.arena.findFirstLeastSwag(10), blackhole);
+    }
+
+    private static void consume(Iterable<Battlecard> cards, Blackhole blackhole) {
+        for (Battlecard card : cards) {
+            blackhole.consume(card);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package benchmark;
+
+import core.IntObjectHashTable;
+import core.RoyaleArena;
+import models.Battlecard;
+import models.CardType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class IdIndexBenchmarkTests {
+
+    @Param({"1000000"})
+    private int n;
+
+    private Map<Integer, Battlecard> linkedHashMap;
+    private IntObjectHashTable<Battlecard> intObjectHashTable;
+    private RoyaleArena arena;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.linkedHashMap = new LinkedHashMap<>();
+        this.intObjectHashTable = new IntObjectHashTable<>();
+        this.arena = new RoyaleArena();
+
+        for (Battlecard card : Cards.generate(n)) {
+            this.linkedHashMap.put(card.getId(), card);
+            this.intObjectHashTable.put(card.getId(), card);
+            this.arena.add(card);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(IdIndexBenchmarkTests.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public Battlecard testGetInLinkedHashMap() {
+        return this.linkedHashMap.get(ThreadLocalRandom.current().nextInt(n));
+    }
+
+    @Benchmark
+    public Battlecard testGetInIntObjectHashTable() {
+        return this.intObjectHashTable.get(ThreadLocalRandom.current().nextInt(n));
+    }
+
+    @Benchmark
+    public Battlecard testRemoveAndPutInLinkedHashMap() {
+        int id = ThreadLocalRandom.current().nextInt(n);
+        Battlecard card = this.linkedHashMap.remove(id);
+        this.linkedHashMap.put(id, card);
+
+        return card;
+    }
+
+    @Benchmark
+    public Battlecard testRemoveAndPutInIntObjectHashTable() {
+        int id = ThreadLocalRandom.current().nextInt(n);
+        Battlecard card = this.intObjectHashTable.remove(id);
+        this.intObjectHashTable.put(id, card);
+
+        return card;
+    }
+
+    @Benchmark
+    public Battlecard testGetByIdInRoyaleArena() {
+        return this.arena.getById(ThreadLocalRandom.current().nextInt(n));
+    }
+
+    @Benchmark
+    public Battlecard testChangeCardTypeInRoyaleArena() {
+        int id = ThreadLocalRandom.current().nextInt(n);
+        this.arena.changeCardType(id, CardType.values()[id & 3]);
+
+        return this.arena.getById(id);
+    }
+}
@@ -0,0 +1,36 @@
+package benchmark;
+
+import core.IntObjectHashTable;
+import models.Battlecard;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Prints the bytes each id index spends on top of the cards it holds.
+// NOTE: Walking a million-entry graph needs a few gigabytes, and JOL has to read JDK internals:
+// -Xmx4G --add-opens java.base/java.util=ALL-UNNAMED --add-opens java.base/java.lang=ALL-UNNAMED
+public class IdIndexFootprint {
+    private static final int N = 1_000_000;
+
+    public static void main(String[] args) {
+        List<Battlecard> cards = Cards.generate(N);
+
+        Map<Integer, Battlecard> linkedHashMap = new LinkedHashMap<>();
+        IntObjectHashTable<Battlecard> intObjectHashTable = new IntObjectHashTable<>();
+        for (Battlecard card : cards) {
+            linkedHashMap.put(card.getId(), card);
+            intObjectHashTable.put(card.getId(), card);
+        }
+
+        long cardsSize = GraphLayout.parseInstance(cards).totalSize();
+
+        print("LinkedHashMap<Integer, Battlecard>", GraphLayout.parseInstance(new Object[]{linkedHashMap, cards}).totalSize() - cardsSize);
+        print("IntObjectHashTable<Battlecard>", GraphLayout.parseInstance(new Object[]{intObjectHashTable, cards}).totalSize() - cardsSize);
+    }
+
+    private static void print(String name, long bytes) {
+        System.out.printf("%-36s %,12d bytes  %6.1f bytes/card%n", name, bytes, (double) bytes / N);
+    }
+}
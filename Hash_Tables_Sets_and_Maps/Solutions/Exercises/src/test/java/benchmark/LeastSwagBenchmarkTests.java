@@ -0,0 +1,67 @@
+package benchmark;
+
+import core.RoyaleArena;
+import models.Battlecard;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class LeastSwagBenchmarkTests {
+    private static final Comparator<Battlecard> SWAG_THEN_ID =
+            Comparator.comparingDouble(Battlecard::getSwag).thenComparingInt(Battlecard::getId);
+
+    @Param({"1000000"})
+    private int cards;
+
+    @Param({"10", "1000", "100000"})
+    private int n;
+
+    private List<Battlecard> battlecards;
+    private RoyaleArena arena;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.battlecards = Cards.generate(cards);
+        this.arena = new RoyaleArena();
+
+        for (Battlecard card : this.battlecards) {
+            this.arena.add(card);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(LeastSwagBenchmarkTests.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public Iterable<Battlecard> testSwagIndex() {
+        return this.arena.findFirstLeastSwag(n);
+    }
+
+    // What findFirstLeastSwag did before the index
+    @Benchmark
+    public List<Battlecard> testSortAndLimit() {
+        return this.battlecards.stream()
+                .sorted(SWAG_THEN_ID)
+                .limit(n)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,84 @@
+package benchmark;
+
+import core.IArena;
+import core.RoyaleArena;
+import core.SnapshotArena;
+import models.Battlecard;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Reader throughput only, the writers pay O(n) per batch and are not the point here.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class SnapshotArenaBenchmarkTests {
+
+    @Param({"100000"})
+    private int n;
+
+    private SnapshotArena snapshotArena;
+    private RoyaleArena lockedArena;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.snapshotArena = new SnapshotArena();
+        this.lockedArena = new RoyaleArena();
+
+        SnapshotArena.Batch batch = new SnapshotArena.Batch();
+        for (Battlecard card : Cards.generate(n)) {
+            batch.add(card);
+            this.lockedArena.add(card);
+        }
+        this.snapshotArena.apply(batch);
+    }
+
+    // Runs every benchmark from one thread up to one per core.
+    public static void main(String[] args) throws RunnerException {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int threads = 1; ; threads = Math.min(2 * threads, cores)) {
+            Options opt = new OptionsBuilder()
+                    .include(SnapshotArenaBenchmarkTests.class.getSimpleName())
+                    .threads(threads)
+                    .forks(1)
+                    .build();
+
+            new Runner(opt).run();
+
+            if (threads == cores) {
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public void testQueryOnSnapshot(Blackhole blackhole) {
+        this.query(this.snapshotArena, blackhole);
+    }
+
+    // The global lock this arena replaces
+    @Benchmark
+    public void testQueryUnderGlobalLock(Blackhole blackhole) {
+        synchronized (this.lockedArena) {
+            this.query(this.lockedArena, blackhole);
+        }
+    }
+
+    private void query(IArena arena, Blackhole blackhole) {
+        blackhole.consume(arena.getById(ThreadLocalRandom.current().nextInt(n)));
+
+        for (Battlecard card : arena.getByNameOrderedBySwagDescending("card" + ThreadLocalRandom.current().nextInt(1000))) {
+            blackhole.consume(card);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package core;
+
+import models.Battlecard;
+import models.CardType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+public class ColumnarArenaTests {
+
+    @Test
+    public void Queries_ShouldMatchRoyaleArena_AfterChangesRemovalsAndCompaction() {
+        // Arrange
+        Random random = new Random(17);
+        ColumnarArena columnar = new ColumnarArena();
+        RoyaleArena reference = new RoyaleArena();
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Battlecard card = randomCard(i, random);
+            columnar.add(card);
+            reference.add(randomCardLike(card));
+            ids.add(i);
+        }
+
+        // Act
+        for (int i = 0; i < 500; i++) {
+            int id = ids.get(random.nextInt(ids.size()));
+            CardType type = CardType.values()[random.nextInt(4)];
+            columnar.changeCardType(id, type);
+            reference.changeCardType(id, type);
+        }
+        for (int i = 0; i < 2500; i++) {
+            int id = ids.remove(random.nextInt(ids.size()));
+            columnar.removeById(id);
+            reference.removeById(id);
+        }
+
+        // Assert
+        Assert.assertEquals(reference.count(), columnar.count());
+        Assert.assertTrue(columnar.rowCount() < 3000);
+        for (CardType type : CardType.values()) {
+            assertSameCards(reference, columnar, a -> a.getByCardType(type));
+            assertSameCards(reference, columnar, a -> a.getByTypeAndDamageRangeOrderedByDamageThenById(type, 20, 60));
+            assertSameCards(reference, columnar, a -> a.getByCardTypeAndMaximumDamage(type, 42));
+        }
+        for (int i = 0; i < 10; i++) {
+            String name = "name" + i;
+            assertSameCards(reference, columnar, a -> a.getByNameOrderedBySwagDescending(name));
+            assertSameCards(reference, columnar, a -> a.getByNameAndSwagRange(name, 10, 90));
+        }
+        assertSameCards(reference, columnar, a -> a.findFirstLeastSwag(100));
+        assertSameCards(reference, columnar, a -> a.getAllInSwagRange(25, 75));
+
+        List<String> expectedHighest = describe(reference.getAllByNameAndSwag());
+        List<String> actualHighest = describe(columnar.getAllByNameAndSwag());
+        expectedHighest.sort(Comparator.naturalOrder());
+        actualHighest.sort(Comparator.naturalOrder());
+        Assert.assertEquals(expectedHighest, actualHighest);
+    }
+
+    @Test
+    public void Iterator_ShouldSkipTombstones_AndKeepInsertionOrder() {
+        // Arrange
+        ColumnarArena arena = new ColumnarArena();
+        for (int i = 0; i < 10; i++) {
+            arena.add(new Battlecard(i, CardType.SPELL, "a", i, i));
+        }
+
+        // Act
+        arena.removeById(0);
+        arena.removeById(5);
+        arena.add(new Battlecard(3, CardType.MELEE, "b", 30, 30));
+
+        // Assert
+        List<Integer> ids = new ArrayList<>();
+        arena.forEach(c -> ids.add(c.getId()));
+        Assert.assertEquals(List.of(1, 2, 3, 4, 6, 7, 8, 9), ids);
+        Assert.assertEquals("b", arena.getById(3).getName());
+        Assert.assertFalse(arena.contains(new Battlecard(5, CardType.SPELL, "a", 5, 5)));
+    }
+
+    @Test
+    public void Queries_ShouldThrow_WhenNothingMatches() {
+        // Arrange
+        ColumnarArena arena = new ColumnarArena();
+        arena.add(new Battlecard(1, CardType.MELEE, "a", 10, 5));
+        arena.add(new Battlecard(2, CardType.MELEE, "b", 10, 5));
+        arena.removeById(2);
+
+        // Act & Assert
+        assertThrows(() -> arena.getByCardType(CardType.RANGED));
+        assertThrows(() -> arena.getByNameOrderedBySwagDescending("b"));
+        assertThrows(() -> arena.getByNameOrderedBySwagDescending("c"));
+        assertThrows(() -> arena.findFirstLeastSwag(2));
+        assertThrows(() -> arena.getById(2));
+        assertThrows(() -> arena.removeById(2));
+    }
+
+    private static Battlecard randomCard(int id, Random random) {
+        return new Battlecard(id, CardType.values()[random.nextInt(4)], "name" + random.nextInt(10),
+                random.nextInt(100), random.nextInt(100));
+    }
+
+    private static Battlecard randomCardLike(Battlecard card) {
+        return new Battlecard(card.getId(), card.getType(), card.getName(), card.getDamage(), card.getSwag());
+    }
+
+    private static void assertSameCards(IArena expected, IArena actual, Function<IArena, Iterable<Battlecard>> query) {
+        Assert.assertEquals(describe(query.apply(expected)), describe(query.apply(actual)));
+    }
+
+    private static List<String> describe(Iterable<Battlecard> cards) {
+        List<String> described = new ArrayList<>();
+        for (Battlecard card : cards) {
+            described.add(card.getId() + " " + card.getType() + " " + card.getName() + " " + card.getDamage() + " " + card.getSwag());
+        }
+
+        return described;
+    }
+
+    private static void assertThrows(Runnable query) {
+        try {
+            query.run();
+            Assert.fail();
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package core;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class CursorTests {
+
+    @Test
+    public void OffsetAndLimit_ShouldPageThroughTheSource() {
+        // Arrange
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            source.add(i);
+        }
+        Cursor<Integer> cursor = new Cursor<>(source);
+
+        // Act
+        Cursor<Integer> secondPage = cursor.offset(50).limit(50);
+        Cursor<Integer> lastPage = cursor.offset(100).limit(50);
+        Cursor<Integer> nested = cursor.limit(60).offset(50).offset(5);
+
+        // Assert
+        Assert.assertEquals(source.subList(50, 100), toList(secondPage));
+        Assert.assertEquals(source.subList(100, 120), toList(lastPage));
+        Assert.assertEquals(source.subList(55, 60), toList(nested));
+        Assert.assertEquals(50, secondPage.count());
+        Assert.assertEquals(20, lastPage.count());
+        Assert.assertEquals(5, nested.count());
+        Assert.assertTrue(cursor.offset(200).isEmpty());
+        Assert.assertEquals(120, cursor.count());
+    }
+
+    @Test
+    public void Iterator_ShouldBeReadOnly_AndStopAtTheLimit() {
+        // Arrange
+        Cursor<String> cursor = new Cursor<>(List.of("a", "b", "c")).limit(1);
+        Iterator<String> iterator = cursor.iterator();
+
+        // Act
+        String first = iterator.next();
+
+        // Assert
+        Assert.assertEquals("a", first);
+        Assert.assertFalse(iterator.hasNext());
+        try {
+            iterator.next();
+            Assert.fail();
+        } catch (NoSuchElementException expected) {
+        }
+        try {
+            cursor.iterator().remove();
+            Assert.fail();
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Offset_ShouldThrow_WhenNegative() {
+        new Cursor<>(List.of(1)).offset(-1);
+    }
+
+    private static <T> List<T> toList(Iterable<T> elements) {
+        List<T> list = new ArrayList<>();
+        elements.forEach(list::add);
+
+        return list;
+    }
+}
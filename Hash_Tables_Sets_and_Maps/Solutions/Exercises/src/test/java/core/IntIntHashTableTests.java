@@ -0,0 +1,54 @@
+package core;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntIntHashTableTests {
+
+    @Test
+    public void Put_Get_Remove_ShouldWorkCorrectly() {
+        // Arrange
+        IntIntHashTable table = new IntIntHashTable(-1);
+
+        // Act
+        Assert.assertEquals(-1, table.put(5, 50));
+        Assert.assertEquals(-1, table.put(-7, 0));
+        int previous = table.put(5, 55);
+
+        // Assert
+        Assert.assertEquals(50, previous);
+        Assert.assertEquals(2, table.size());
+        Assert.assertEquals(55, table.get(5));
+        Assert.assertEquals(0, table.get(-7));
+        Assert.assertEquals(0, table.remove(-7));
+        Assert.assertEquals(-1, table.remove(-7));
+        Assert.assertEquals(-1, table.get(-7));
+        Assert.assertFalse(table.containsKey(-7));
+        Assert.assertEquals(1, table.size());
+    }
+
+    @Test
+    public void RemoveAndPutChurn_ShouldKeepEveryKeyReachable() {
+        // Arrange
+        IntIntHashTable table = new IntIntHashTable(Integer.MIN_VALUE);
+        // Keys that share their low bits pile up in long probe runs.
+        for (int i = 0; i < 20000; i++) {
+            table.put(i << 10, i);
+        }
+
+        // Act
+        for (int i = 0; i < 20000; i += 2) {
+            table.remove(i << 10);
+        }
+        for (int i = 20000; i < 30000; i++) {
+            table.put(i << 10, i);
+        }
+
+        // Assert
+        Assert.assertEquals(20000, table.size());
+        for (int i = 0; i < 30000; i++) {
+            int expected = i >= 20000 || i % 2 == 1 ? i : Integer.MIN_VALUE;
+            Assert.assertEquals(expected, table.get(i << 10));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package core;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class IntObjectHashTableTests {
+
+    @Test
+    public void Put_Get_Remove_ShouldWorkCorrectly() {
+        // Arrange
+        IntObjectHashTable<String> table = new IntObjectHashTable<>();
+
+        // Act
+        Assert.assertNull(table.put(5, "Peter"));
+        Assert.assertNull(table.put(-7, "Maria"));
+        String previous = table.put(5, "George");
+
+        // Assert
+        Assert.assertEquals("Peter", previous);
+        Assert.assertEquals(2, table.size());
+        Assert.assertEquals("George", table.get(5));
+        Assert.assertEquals("Maria", table.remove(-7));
+        Assert.assertNull(table.remove(-7));
+        Assert.assertNull(table.get(-7));
+        Assert.assertEquals(1, table.size());
+    }
+
+    @Test
+    public void Iterator_ShouldFollowInsertionOrder_AfterRemovalsAndGrowth() {
+        // Arrange
+        IntObjectHashTable<Integer> table = new IntObjectHashTable<>();
+        for (int i = 0; i < 10000; i++) {
+            table.put(i * 31, i);
+        }
+
+        // Act
+        for (int i = 0; i < 10000; i += 3) {
+            table.remove(i * 31);
+        }
+        for (int i = 10000; i < 20000; i++) {
+            table.put(i * 31, i);
+        }
+
+        // Assert
+        List<Integer> values = new ArrayList<>();
+        table.forEach(values::add);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            if (i >= 10000 || i % 3 != 0) {
+                expected.add(i);
+            }
+        }
+        Assert.assertEquals(expected, values);
+        for (int i = 0; i < 20000; i++) {
+            Assert.assertEquals(i >= 10000 || i % 3 != 0, table.containsKey(i * 31));
+        }
+    }
+
+    @Test
+    public void RemoveAndPutChurn_ShouldKeepEveryKeyReachable() {
+        // Arrange
+        IntObjectHashTable<Integer> table = new IntObjectHashTable<>();
+        for (int i = 0; i < 1000; i++) {
+            table.put(i << 10, i);
+        }
+
+        // Act
+        for (int round = 0; round < 50; round++) {
+            for (int i = round % 7; i < 1000; i += 7) {
+                table.put(i << 10, table.remove(i << 10));
+            }
+        }
+
+        // Assert
+        Assert.assertEquals(1000, table.size());
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(Integer.valueOf(i), table.get(i << 10));
+        }
+    }
+
+    @Test
+    public void Clear_ShouldRemoveEverything() {
+        // Arrange
+        IntObjectHashTable<String> table = new IntObjectHashTable<>();
+        table.put(1, "Peter");
+
+        // Act
+        table.clear();
+
+        // Assert
+        Assert.assertTrue(table.isEmpty());
+        Assert.assertFalse(table.containsKey(1));
+        Assert.assertFalse(table.iterator().hasNext());
+    }
+}
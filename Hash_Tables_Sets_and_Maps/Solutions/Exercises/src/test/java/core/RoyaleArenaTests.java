@@ -0,0 +1,372 @@
+package core;
+
+import models.Battlecard;
+import models.CardType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public class RoyaleArenaTests {
+
+    private static final Comparator<Battlecard> DAMAGE_DESC_THEN_ID =
+            Comparator.comparingDouble(Battlecard::getDamage).reversed().thenComparingInt(Battlecard::getId);
+    private static final Comparator<Battlecard> SWAG_DESC_THEN_ID =
+            Comparator.comparingDouble(Battlecard::getSwag).reversed().thenComparingInt(Battlecard::getId);
+    private static final Comparator<Battlecard> SWAG_THEN_ID =
+            Comparator.comparingDouble(Battlecard::getSwag).thenComparingInt(Battlecard::getId);
+
+    @Test
+    public void RangeQueries_ShouldMatchScanAndSort() {
+        // Arrange
+        List<Battlecard> cards = generate(2000, new Random(7));
+        RoyaleArena arena = new RoyaleArena();
+        cards.forEach(arena::add);
+
+        // Act & Assert
+        assertQueriesMatch(arena, cards);
+    }
+
+    @Test
+    public void RangeQueries_ShouldMatchScanAndSort_AfterChangesAndRemovals() {
+        // Arrange
+        Random random = new Random(11);
+        List<Battlecard> cards = generate(2000, random);
+        RoyaleArena arena = new RoyaleArena();
+        cards.forEach(arena::add);
+
+        // Act
+        for (int i = 0; i < 500; i++) {
+            arena.changeCardType(cards.get(random.nextInt(cards.size())).getId(), CardType.values()[random.nextInt(4)]);
+        }
+        for (int i = 0; i < 700; i++) {
+            arena.removeById(cards.remove(random.nextInt(cards.size())).getId());
+        }
+        // Re-adding an id replaces the card in every index.
+        for (int i = 0; i < 300; i++) {
+            Battlecard replacement = new Battlecard(cards.get(i).getId(), CardType.SPELL, "name" + random.nextInt(10),
+                    random.nextInt(100), random.nextInt(100));
+            cards.set(i, replacement);
+            arena.add(replacement);
+        }
+
+        // Assert
+        Assert.assertEquals(cards.size(), arena.count());
+        assertQueriesMatch(arena, cards);
+    }
+
+    @Test
+    public void RangeQueries_ShouldRespectBoundInclusiveness() {
+        // Arrange
+        RoyaleArena arena = new RoyaleArena();
+        arena.add(new Battlecard(1, CardType.MELEE, "a", 10, 5));
+        arena.add(new Battlecard(2, CardType.MELEE, "a", 20, 10));
+        arena.add(new Battlecard(3, CardType.MELEE, "a", 30, 15));
+
+        // Act
+        List<Integer> damageRange = ids(arena.getByTypeAndDamageRangeOrderedByDamageThenById(CardType.MELEE, 10, 30));
+        List<Integer> maximumDamage = ids(arena.getByCardTypeAndMaximumDamage(CardType.MELEE, 20));
+        List<Integer> nameSwagRange = ids(arena.getByNameAndSwagRange("a", 5, 15));
+        List<Integer> swagRange = ids(arena.getAllInSwagRange(5, 15));
+
+        // Assert
+        Assert.assertEquals(List.of(2), damageRange);
+        Assert.assertEquals(List.of(2, 1), maximumDamage);
+        Assert.assertEquals(List.of(2, 1), nameSwagRange);
+        Assert.assertEquals(List.of(1, 2, 3), swagRange);
+    }
+
+    @Test
+    public void Queries_ShouldThrow_WhenNothingMatches() {
+        // Arrange
+        RoyaleArena arena = new RoyaleArena();
+        arena.add(new Battlecard(1, CardType.MELEE, "a", 10, 5));
+        arena.changeCardType(1, CardType.RANGED);
+
+        // Act & Assert
+        assertThrows(() -> arena.getByCardType(CardType.MELEE));
+        assertThrows(() -> arena.getByTypeAndDamageRangeOrderedByDamageThenById(CardType.RANGED, 10, 20));
+        assertThrows(() -> arena.getByTypeAndDamageRangeOrderedByDamageThenById(CardType.RANGED, 20, 10));
+        assertThrows(() -> arena.getByCardTypeAndMaximumDamage(CardType.RANGED, 9.99));
+        assertThrows(() -> arena.getByNameOrderedBySwagDescending("b"));
+        assertThrows(() -> arena.getByNameAndSwagRange("a", 6, 5));
+        Assert.assertFalse(arena.getAllInSwagRange(6, 5).iterator().hasNext());
+
+        arena.removeById(1);
+        assertThrows(() -> arena.getByNameOrderedBySwagDescending("a"));
+    }
+
+    @Test
+    public void SwagRange_ShouldBreakSwagTiesById_NotByInsertionOrder() {
+        // Arrange
+        RoyaleArena arena = new RoyaleArena();
+        arena.add(new Battlecard(3, CardType.MELEE, "a", 10, 5));
+        arena.add(new Battlecard(1, CardType.SPELL, "b", 10, 7));
+        arena.add(new Battlecard(2, CardType.RANGED, "c", 10, 5));
+        arena.add(new Battlecard(0, CardType.MELEE, "d", 10, 7));
+
+        // Act
+        List<Integer> swagRange = ids(arena.getAllInSwagRange(0, 10));
+
+        // Assert
+        Assert.assertEquals(List.of(2, 3, 0, 1), swagRange);
+    }
+
+    @Test
+    public void FindFirstLeastSwag_ShouldReturnTheHeadOfTheSwagOrder() {
+        // Arrange
+        List<Battlecard> cards = generate(1000, new Random(3));
+        RoyaleArena arena = new RoyaleArena();
+        cards.forEach(arena::add);
+        arena.removeById(cards.remove(0).getId());
+
+        // Act
+        List<Integer> leastSwag = ids(arena.findFirstLeastSwag(50));
+        List<Integer> all = ids(arena.findFirstLeastSwag(cards.size()));
+
+        // Assert
+        Assert.assertEquals(expected(cards, c -> true, SWAG_THEN_ID).subList(0, 50), leastSwag);
+        Assert.assertEquals(expected(cards, c -> true, SWAG_THEN_ID), all);
+        Assert.assertFalse(arena.findFirstLeastSwag(0).iterator().hasNext());
+        assertThrows(() -> arena.findFirstLeastSwag(cards.size() + 1));
+    }
+
+    @Test
+    public void AllByNameAndSwag_ShouldFollowAddsRemovalsAndSwagChanges() {
+        // Arrange
+        Random random = new Random(13);
+        List<Battlecard> cards = generate(1000, random);
+        RoyaleArena arena = new RoyaleArena();
+        cards.forEach(arena::add);
+        Iterable<Battlecard> view = arena.getAllByNameAndSwag();
+
+        // Act
+        for (int i = 0; i < 300; i++) {
+            arena.changeSwag(cards.get(random.nextInt(cards.size())).getId(), random.nextInt(100));
+        }
+        for (int i = 0; i < 900; i++) {
+            arena.removeById(cards.remove(random.nextInt(cards.size())).getId());
+        }
+
+        // Assert
+        Assert.assertSame(view, arena.getAllByNameAndSwag());
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String name = "name" + i;
+            cards.stream()
+                    .filter(c -> c.getName().equals(name))
+                    .min(SWAG_DESC_THEN_ID)
+                    .ifPresent(c -> expected.add(c.getId()));
+        }
+        List<Integer> actual = ids(view);
+        actual.sort(Comparator.comparing(id -> arena.getById(id).getName()));
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(expected(cards, c -> true, SWAG_THEN_ID), ids(arena.getAllInSwagRange(0, 100)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void AllByNameAndSwag_ShouldBeReadOnly() {
+        // Arrange
+        RoyaleArena arena = new RoyaleArena();
+        arena.add(new Battlecard(1, CardType.MELEE, "a", 10, 5));
+
+        // Act
+        arena.getAllByNameAndSwag().iterator().remove();
+    }
+
+    @Test
+    public void Queries_ShouldBeLiveViews_ThatFailOnWritesDuringIteration() {
+        // Arrange
+        RoyaleArena arena = new RoyaleArena();
+        generate(100, new Random(29)).forEach(arena::add);
+        Iterator<Battlecard> melee = arena.getByCardType(CardType.MELEE).iterator();
+
+        // Act
+        arena.removeById(melee.next().getId());
+
+        // Assert
+        try {
+            melee.next();
+            Assert.fail();
+        } catch (ConcurrentModificationException expected) {
+        }
+    }
+
+    @Test
+    public void Queries_CopiedFirst_ShouldAllowWritesInTheLoop() {
+        // Arrange
+        List<Battlecard> cards = generate(1000, new Random(31));
+        RoyaleArena arena = new RoyaleArena();
+        cards.forEach(arena::add);
+
+        // Act
+        for (int id : ids(arena.getByCardType(CardType.MELEE))) {
+            arena.changeCardType(id, CardType.SPELL);
+        }
+        for (int id : ids(arena.getAllInSwagRange(0, 50))) {
+            arena.removeById(id);
+        }
+
+        // Assert
+        cards.removeIf(c -> c.getSwag() <= 50);
+        Assert.assertEquals(cards.size(), arena.count());
+        assertThrows(() -> arena.getByCardType(CardType.MELEE));
+        Assert.assertEquals(expected(cards, c -> c.getType() == CardType.SPELL, DAMAGE_DESC_THEN_ID),
+                ids(arena.getByCardType(CardType.SPELL)));
+        Assert.assertEquals(expected(cards, c -> true, SWAG_THEN_ID), ids(arena.getAllInSwagRange(0, 100)));
+    }
+
+    @Test
+    public void Queries_ShouldPageAndCount_WithoutCopying() {
+        // Arrange
+        List<Battlecard> cards = generate(2000, new Random(19));
+        RoyaleArena arena = new RoyaleArena();
+        cards.forEach(arena::add);
+        List<Integer> all = expected(cards, c -> c.getSwag() >= 10 && c.getSwag() <= 90, SWAG_THEN_ID);
+
+        // Act
+        Cursor<Battlecard> inRange = arena.getAllInSwagRange(10, 90);
+        List<Integer> thirdPage = ids(inRange.offset(100).limit(50));
+
+        // Assert
+        Assert.assertEquals(all.subList(100, 150), thirdPage);
+        Assert.assertEquals(all.size(), inRange.count());
+        Assert.assertEquals(expected(cards, c -> c.getType() == CardType.MELEE, DAMAGE_DESC_THEN_ID).size(),
+                arena.getByCardType(CardType.MELEE).count());
+        Assert.assertEquals(10, arena.findFirstLeastSwag(10).count());
+        Assert.assertEquals(expected(cards, c -> true, SWAG_THEN_ID).subList(5, 10),
+                ids(arena.findFirstLeastSwag(10).offset(5)));
+    }
+
+    @Test
+    public void AddAll_ShouldBuildTheSameIndexesAsAdd() {
+        // Arrange
+        Random random = new Random(23);
+        List<Battlecard> first = generate(500, random);
+        List<Battlecard> second = generate(3000, random);
+        RoyaleArena bulk = new RoyaleArena();
+        RoyaleArena incremental = new RoyaleArena();
+
+        // Act
+        bulk.addAll(first);
+        bulk.addAll(second.subList(0, 100));
+        bulk.addAll(second);
+        first.forEach(incremental::add);
+        second.subList(0, 100).forEach(incremental::add);
+        second.forEach(incremental::add);
+
+        // Assert
+        Assert.assertEquals(incremental.count(), bulk.count());
+        Assert.assertEquals(ids(incremental), ids(bulk));
+        Assert.assertEquals(ids(incremental.getAllByNameAndSwag()), ids(bulk.getAllByNameAndSwag()));
+        assertQueriesMatch(bulk, second);
+
+        bulk.changeCardType(7, CardType.BUILDING);
+        bulk.removeById(8);
+        bulk.add(new Battlecard(5000, CardType.BUILDING, "name3", 1, 1));
+        List<Battlecard> expected = new ArrayList<>(second);
+        expected.remove(8);
+        expected.add(new Battlecard(5000, CardType.BUILDING, "name3", 1, 1));
+        assertQueriesMatch(bulk, expected);
+    }
+
+    @Test
+    public void AddAll_ShouldShowInViewsTakenBefore_AndFailViewsBeingRead() {
+        // Arrange
+        Random random = new Random(29);
+        List<Battlecard> first = generate(200, random);
+        List<Battlecard> second = new ArrayList<>();
+        for (Battlecard card : generate(1000, random)) {
+            second.add(new Battlecard(card.getId() + 100, card.getType(), card.getName(), card.getDamage(), card.getSwag()));
+        }
+        List<Battlecard> all = new ArrayList<>(first.subList(0, 100));
+        all.addAll(second);
+        RoyaleArena arena = new RoyaleArena();
+        arena.addAll(first);
+
+        Cursor<Battlecard> byType = arena.getByCardType(CardType.MELEE);
+        Cursor<Battlecard> byName = arena.getByNameOrderedBySwagDescending("name3");
+        Cursor<Battlecard> inSwagRange = arena.getAllInSwagRange(25, 75);
+        Cursor<Battlecard> byNameAndSwag = arena.getAllByNameAndSwag();
+        Iterator<Battlecard> beingRead = arena.getAllInSwagRange(0, 100).iterator();
+        beingRead.next();
+
+        // Act
+        arena.addAll(second);
+
+        // Assert
+        Assert.assertEquals(expected(all, c -> c.getType() == CardType.MELEE, DAMAGE_DESC_THEN_ID), ids(byType));
+        Assert.assertEquals(expected(all, c -> c.getName().equals("name3"), SWAG_DESC_THEN_ID), ids(byName));
+        Assert.assertEquals(expected(all, c -> c.getSwag() >= 25 && c.getSwag() <= 75, SWAG_THEN_ID), ids(inSwagRange));
+        Assert.assertEquals(ids(arena.getAllByNameAndSwag()), ids(byNameAndSwag));
+        try {
+            beingRead.next();
+            Assert.fail();
+        } catch (ConcurrentModificationException expected) {
+        }
+    }
+
+    private static void assertQueriesMatch(RoyaleArena arena, List<Battlecard> cards) {
+        for (CardType type : CardType.values()) {
+            Assert.assertEquals(expected(cards, c -> c.getType() == type, DAMAGE_DESC_THEN_ID),
+                    ids(arena.getByCardType(type)));
+            Assert.assertEquals(expected(cards, c -> c.getType() == type && c.getDamage() > 20 && c.getDamage() < 60, DAMAGE_DESC_THEN_ID),
+                    ids(arena.getByTypeAndDamageRangeOrderedByDamageThenById(type, 20, 60)));
+            Assert.assertEquals(expected(cards, c -> c.getType() == type && c.getDamage() <= 42, DAMAGE_DESC_THEN_ID),
+                    ids(arena.getByCardTypeAndMaximumDamage(type, 42)));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            String name = "name" + i;
+            Assert.assertEquals(expected(cards, c -> c.getName().equals(name), SWAG_DESC_THEN_ID),
+                    ids(arena.getByNameOrderedBySwagDescending(name)));
+            Assert.assertEquals(expected(cards, c -> c.getName().equals(name) && c.getSwag() >= 10 && c.getSwag() < 90, SWAG_DESC_THEN_ID),
+                    ids(arena.getByNameAndSwagRange(name, 10, 90)));
+        }
+
+        Assert.assertEquals(expected(cards, c -> c.getSwag() >= 25 && c.getSwag() <= 75, SWAG_THEN_ID),
+                ids(arena.getAllInSwagRange(25, 75)));
+    }
+
+    // Integer damage and swag in a small range, so the bounds and the id tie-breaks get exercised
+    private static List<Battlecard> generate(int n, Random random) {
+        List<Battlecard> cards = new ArrayList<>(n);
+
+        for (int i = 0; i < n; i++) {
+            cards.add(new Battlecard(
+                    i,
+                    CardType.values()[random.nextInt(4)],
+                    "name" + random.nextInt(10),
+                    random.nextInt(100),
+                    random.nextInt(100)));
+        }
+
+        return cards;
+    }
+
+    private static List<Integer> expected(List<Battlecard> cards, Predicate<Battlecard> predicate, Comparator<Battlecard> order) {
+        return cards.stream().filter(predicate).sorted(order).map(Battlecard::getId).collect(Collectors.toList());
+    }
+
+    private static List<Integer> ids(Iterable<Battlecard> cards) {
+        List<Integer> ids = new ArrayList<>();
+        cards.forEach(c -> ids.add(c.getId()));
+
+        return ids;
+    }
+
+    private static void assertThrows(Runnable query) {
+        try {
+            query.run();
+            Assert.fail();
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package core;
+
+import models.Battlecard;
+import models.CardType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SnapshotArenaTests {
+
+    @Test
+    public void Cursors_ShouldKeepTheirSnapshot_AfterLaterWrites() {
+        // Arrange
+        SnapshotArena arena = new SnapshotArena();
+        arena.apply(new SnapshotArena.Batch()
+                .add(new Battlecard(1, CardType.MELEE, "a", 10, 5))
+                .add(new Battlecard(2, CardType.MELEE, "b", 20, 10)));
+        Cursor<Battlecard> melee = arena.getByCardType(CardType.MELEE);
+        Battlecard first = arena.getById(1);
+
+        // Act
+        arena.changeCardType(1, CardType.SPELL);
+        arena.removeById(2);
+
+        // Assert
+        Assert.assertEquals(List.of(2, 1), ids(melee));
+        Assert.assertEquals(CardType.MELEE, first.getType());
+        Assert.assertEquals(CardType.SPELL, arena.getById(1).getType());
+        Assert.assertEquals(1, arena.count());
+        Assert.assertEquals(3, arena.version());
+    }
+
+    @Test
+    public void Apply_ShouldPublishNothing_WhenAnOperationFails() {
+        // Arrange
+        SnapshotArena arena = new SnapshotArena();
+        arena.add(new Battlecard(1, CardType.MELEE, "a", 10, 5));
+
+        // Act
+        try {
+            arena.apply(new SnapshotArena.Batch()
+                    .add(new Battlecard(2, CardType.MELEE, "b", 20, 10))
+                    .changeCardType(3, CardType.SPELL));
+            Assert.fail();
+        } catch (IllegalArgumentException expected) {
+        }
+
+        // Assert
+        Assert.assertEquals(1, arena.count());
+        Assert.assertEquals(1, arena.version());
+    }
+
+    @Test
+    public void Readers_ShouldOnlySeeWholeBatches_WhileAWriterRuns() throws InterruptedException {
+        // Arrange
+        SnapshotArena arena = new SnapshotArena();
+        AtomicReference<String> failure = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            readers.add(new Thread(() -> {
+                while (failure.get() == null && arena.count() < 2000) {
+                    // Every batch adds a pair, so a reader must never see an odd count.
+                    int count = arena.count();
+                    if (count % 2 != 0) {
+                        failure.set("Saw a half applied batch: " + count);
+                    }
+                }
+            }));
+        }
+
+        // Act
+        readers.forEach(Thread::start);
+        for (int i = 0; i < 2000; i += 2) {
+            arena.apply(new SnapshotArena.Batch()
+                    .add(new Battlecard(i, CardType.RANGED, "a", i, i))
+                    .add(new Battlecard(i + 1, CardType.RANGED, "a", i, i)));
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        // Assert
+        Assert.assertNull(failure.get());
+        Assert.assertEquals(2000, arena.getByCardType(CardType.RANGED).count());
+    }
+
+    private static List<Integer> ids(Iterable<Battlecard> cards) {
+        List<Integer> ids = new ArrayList<>();
+        cards.forEach(c -> ids.add(c.getId()));
+
+        return ids;
+    }
+}
@@ -0,0 +1,46 @@
+package core;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public class TopKTests {
+
+    @Test
+    public void Smallest_OverInts_ShouldMatchSortAndLimit() {
+        // Arrange
+        Random random = new Random(9);
+        int[] elements = new int[5000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = random.nextInt(1000);
+        }
+
+        // Act
+        int[] smallest = TopK.smallest(elements, 4000, 250, Integer::compare);
+
+        // Assert
+        Assert.assertArrayEquals(IntStream.of(elements).limit(4000).sorted().limit(250).toArray(), smallest);
+        Assert.assertEquals(3, TopK.smallest(elements, 3, 10, Integer::compare).length);
+    }
+
+    @Test
+    public void Smallest_OverInts_ShouldReturnEverything_WhenKExceedsTheSource() {
+        // Arrange
+        int[] elements = {3, 1, 2, 99};
+
+        // Act
+        int[] smallest = TopK.smallest(elements, 3, 10, Integer::compare);
+        int[] none = TopK.smallest(elements, 3, 0, Integer::compare);
+
+        // Assert
+        Assert.assertArrayEquals(new int[]{1, 2, 3}, smallest);
+        Assert.assertEquals(0, none.length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Smallest_ShouldThrow_WhenKIsNegative() {
+        TopK.smallest(new int[]{1}, 1, -1, Integer::compare);
+    }
+}
@@ -0,0 +1,304 @@
+package implementations;
+
+import java.util.function.Function;
+
+/**
+ * Memo cache on top of {@link HashTable} that never holds more than {@code maximumSize} entries.
+ * <p>
+ * The table maps every key to a {@code CacheEntry} that is also a node of the policy's recency
+ * lists, so a hit is one table lookup plus a few pointer swaps: nothing is allocated.
+ */
+public class BoundedCache<K, V> {
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    public enum Policy {
+        // Evicts the least recently used entry.
+        LRU,
+        // New entries land in a small LRU window. An entry pushed out of the window only replaces the
+        // main area's victim if the frequency sketch has seen it more often, so one-off scans cannot
+        // flush the entries that are used all the time. The main area is a segmented LRU.
+        W_TINY_LFU
+    }
+
+    private final HashTable<K, CacheEntry<K, V>> table;
+    private final Policy policy;
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final FrequencySketch sketch;
+
+    // Sentinels of circular lists, the most recently used entry sits right after the sentinel
+    private final CacheEntry<K, V> window = sentinel();
+    private final CacheEntry<K, V> probation = sentinel();
+    private final CacheEntry<K, V> protectedArea = sentinel();
+    private int windowSize;
+    private int protectedSize;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long loads;
+    private long loadTime;
+
+    public BoundedCache(int maximumSize) {
+        this(maximumSize, Policy.W_TINY_LFU);
+    }
+
+    public BoundedCache(int maximumSize, Policy policy) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+
+        this.table = new HashTable<>();
+        this.policy = policy;
+        this.maximumSize = maximumSize;
+
+        if (policy == Policy.LRU) {
+            this.windowMaximum = maximumSize;
+            this.protectedMaximum = 0;
+            this.sketch = null;
+        } else {
+            // 1% window, the main area keeps 80% of its space for entries that were hit twice
+            this.windowMaximum = Math.max(1, maximumSize / 100);
+            this.protectedMaximum = (maximumSize - this.windowMaximum) * 4 / 5;
+            this.sketch = new FrequencySketch(maximumSize);
+        }
+    }
+
+    private static class CacheEntry<K, V> {
+        final K key;
+        V value;
+        CacheEntry<K, V> previous;
+        CacheEntry<K, V> next;
+        int area = WINDOW;
+
+        CacheEntry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    // Returns null when the key is not cached.
+    public V get(K key) {
+        KeyValue<K, CacheEntry<K, V>> element = this.table.find(key);
+        this.recordAccess(key);
+
+        if (element == null) {
+            this.misses++;
+            return null;
+        }
+
+        this.hits++;
+        CacheEntry<K, V> entry = element.getValue();
+        this.onAccess(entry);
+
+        return entry.value;
+    }
+
+    // Returns the cached value, or loads, caches and returns it.
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = this.get(key);
+
+        if (value == null) {
+            long start = System.nanoTime();
+            value = loader.apply(key);
+            this.loadTime += System.nanoTime() - start;
+            this.loads++;
+
+            if (value != null) {
+                this.insert(key, value);
+            }
+        }
+
+        return value;
+    }
+
+    public void put(K key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+
+        KeyValue<K, CacheEntry<K, V>> element = this.table.find(key);
+        this.recordAccess(key);
+
+        if (element != null) {
+            CacheEntry<K, V> entry = element.getValue();
+            entry.value = value;
+            this.onAccess(entry);
+            return;
+        }
+
+        this.insert(key, value);
+    }
+
+    public boolean remove(K key) {
+        KeyValue<K, CacheEntry<K, V>> element = this.table.find(key);
+
+        if (element == null) {
+            return false;
+        }
+
+        this.discard(element.getValue());
+        return true;
+    }
+
+    public boolean containsKey(K key) {
+        return this.table.containsKey(key);
+    }
+
+    public int size() {
+        return this.table.size();
+    }
+
+    public int maximumSize() {
+        return this.maximumSize;
+    }
+
+    public Policy policy() {
+        return this.policy;
+    }
+
+    public long hitCount() {
+        return this.hits;
+    }
+
+    public long missCount() {
+        return this.misses;
+    }
+
+    public double hitRate() {
+        long requests = this.hits + this.misses;
+        return requests == 0 ? 1.0 : (double) this.hits / requests;
+    }
+
+    public long evictionCount() {
+        return this.evictions;
+    }
+
+    public long loadCount() {
+        return this.loads;
+    }
+
+    // Nanoseconds spent in loaders
+    public long totalLoadTime() {
+        return this.loadTime;
+    }
+
+    public double averageLoadPenalty() {
+        return this.loads == 0 ? 0.0 : (double) this.loadTime / this.loads;
+    }
+
+    private void insert(K key, V value) {
+        CacheEntry<K, V> entry = new CacheEntry<>(key, value);
+        this.table.add(key, entry);
+        linkFirst(this.window, entry);
+        this.windowSize++;
+
+        if (this.policy == Policy.LRU) {
+            if (this.table.size() > this.maximumSize) {
+                this.evict(this.window.previous);
+            }
+        } else if (this.windowSize > this.windowMaximum) {
+            this.admitFromWindow();
+        }
+    }
+
+    private void admitFromWindow() {
+        CacheEntry<K, V> candidate = this.window.previous;
+        unlink(candidate);
+        candidate.area = PROBATION;
+        this.windowSize--;
+
+        if (this.table.size() > this.maximumSize) {
+            CacheEntry<K, V> victim = this.probation.previous != this.probation
+                    ? this.probation.previous
+                    : this.protectedArea.previous;
+
+            if (victim == this.protectedArea
+                    || this.sketch.frequency(hash(candidate.key)) <= this.sketch.frequency(hash(victim.key))) {
+                this.evict(candidate);
+                return;
+            }
+
+            this.evict(victim);
+        }
+
+        linkFirst(this.probation, candidate);
+    }
+
+    private void onAccess(CacheEntry<K, V> entry) {
+        unlink(entry);
+
+        if (entry.area == WINDOW) {
+            linkFirst(this.window, entry);
+        } else if (entry.area == PROTECTED) {
+            linkFirst(this.protectedArea, entry);
+        } else {
+            // A second hit promotes the entry, making room by demoting the coldest protected one.
+            entry.area = PROTECTED;
+            linkFirst(this.protectedArea, entry);
+            this.protectedSize++;
+
+            if (this.protectedSize > this.protectedMaximum) {
+                CacheEntry<K, V> demoted = this.protectedArea.previous;
+                unlink(demoted);
+                demoted.area = PROBATION;
+                linkFirst(this.probation, demoted);
+                this.protectedSize--;
+            }
+        }
+    }
+
+    private void evict(CacheEntry<K, V> entry) {
+        this.discard(entry);
+        this.evictions++;
+    }
+
+    private void discard(CacheEntry<K, V> entry) {
+        if (entry.next != null) {
+            unlink(entry);
+        }
+
+        if (entry.area == WINDOW) {
+            this.windowSize--;
+        } else if (entry.area == PROTECTED) {
+            this.protectedSize--;
+        }
+
+        this.table.remove(entry.key);
+    }
+
+    private void recordAccess(K key) {
+        if (this.sketch != null) {
+            this.sketch.increment(hash(key));
+        }
+    }
+
+    private static int hash(Object key) {
+        return HashSpreader.MURMUR3.spread(key.hashCode());
+    }
+
+    private static <K, V> CacheEntry<K, V> sentinel() {
+        CacheEntry<K, V> sentinel = new CacheEntry<>(null, null);
+        sentinel.previous = sentinel;
+        sentinel.next = sentinel;
+
+        return sentinel;
+    }
+
+    private static <K, V> void linkFirst(CacheEntry<K, V> sentinel, CacheEntry<K, V> entry) {
+        entry.previous = sentinel;
+        entry.next = sentinel.next;
+        sentinel.next.previous = entry;
+        sentinel.next = entry;
+    }
+
+    private static <K, V> void unlink(CacheEntry<K, V> entry) {
+        entry.previous.next = entry.next;
+        entry.next.previous = entry.previous;
+        entry.previous = null;
+        entry.next = null;
+    }
+}
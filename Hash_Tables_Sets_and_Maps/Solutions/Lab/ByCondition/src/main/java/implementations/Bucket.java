@@ -0,0 +1,27 @@
+package implementations;
+
+// A single slot of a HashTable: either a plain chain or, once it gets long, a balanced tree.
+// Both keep their entries threaded through Node.next in insertion order for iteration.
+interface Bucket<K, V> {
+    class Node<K, V> {
+        final int hash;
+        final KeyValue<K, V> entry;
+        Node<K, V> next;
+
+        Node(int hash, KeyValue<K, V> entry) {
+            this.hash = hash;
+            this.entry = entry;
+        }
+    }
+
+    Node<K, V> first();
+
+    int size();
+
+    KeyValue<K, V> find(int hash, K key);
+
+    // The caller guarantees that the key is not in the bucket yet
+    void insert(int hash, KeyValue<K, V> entry);
+
+    boolean remove(int hash, K key);
+}
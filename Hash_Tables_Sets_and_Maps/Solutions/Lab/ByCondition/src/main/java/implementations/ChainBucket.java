@@ -0,0 +1,77 @@
+package implementations;
+
+class ChainBucket<K, V> implements Bucket<K, V> {
+    private Node<K, V> head;
+    private Node<K, V> tail;
+    private int size;
+
+    ChainBucket() {
+    }
+
+    ChainBucket(Bucket<K, V> source) {
+        for (Node<K, V> node = source.first(); node != null; node = node.next) {
+            this.insert(node.hash, node.entry);
+        }
+    }
+
+    @Override
+    public Node<K, V> first() {
+        return this.head;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public KeyValue<K, V> find(int hash, K key) {
+        for (Node<K, V> node = this.head; node != null; node = node.next) {
+            if (node.hash == hash && node.entry.getKey().equals(key)) {
+                return node.entry;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void insert(int hash, KeyValue<K, V> entry) {
+        Node<K, V> node = new Node<>(hash, entry);
+
+        if (this.head == null) {
+            this.head = node;
+        } else {
+            this.tail.next = node;
+        }
+
+        this.tail = node;
+        this.size++;
+    }
+
+    @Override
+    public boolean remove(int hash, K key) {
+        Node<K, V> previous = null;
+
+        for (Node<K, V> node = this.head; node != null; node = node.next) {
+            if (node.hash == hash && node.entry.getKey().equals(key)) {
+                if (previous == null) {
+                    this.head = node.next;
+                } else {
+                    previous.next = node.next;
+                }
+
+                if (node == this.tail) {
+                    this.tail = previous;
+                }
+
+                this.size--;
+                return true;
+            }
+
+            previous = node;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,434 @@
+package implementations;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe counterpart of {@link HashTable}. Reads never lock: chains are immutable apart
+ * from the values, so a reader always walks a consistent chain. Writers lock one of a fixed
+ * set of stripes. When the table grows every writer that runs into the resize helps moving
+ * buckets until it is done, while readers follow the forwarding markers left behind.
+ * <p>
+ * {@link #find(Object)} and the iterator hand out snapshots of the entries.
+ */
+public class ConcurrentHashTable<K, V> implements Iterable<KeyValue<K, V>> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.80d;
+    // The capacity never drops below the stripe count, so a bucket and the two buckets it
+    // splits into on a resize are always guarded by the same stripe.
+    private static final int STRIPES = 64;
+    private static final int TRANSFER_CHUNK = 16;
+    private static final int MOVED = -1;
+
+    private final ReentrantLock[] locks;
+    private final ReentrantLock resizeLock;
+    private final LongAdder count;
+
+    private volatile AtomicReferenceArray<Node<K, V>> table;
+    private volatile Transfer<K, V> transfer;
+
+    public ConcurrentHashTable() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ConcurrentHashTable(int capacity) {
+        this.locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            this.locks[i] = new ReentrantLock();
+        }
+
+        this.resizeLock = new ReentrantLock();
+        this.count = new LongAdder();
+        this.table = new AtomicReferenceArray<>(tableSizeFor(capacity));
+    }
+
+    public void add(K key, V value) {
+        if (this.put(key, value, false)) {
+            throw new IllegalArgumentException("Key already exists: " + key);
+        }
+    }
+
+    public boolean addOrReplace(K key, V value) {
+        return this.put(key, value, true);
+    }
+
+    public V get(K key) {
+        Node<K, V> node = this.findNode(key);
+
+        if (node == null) {
+            throw new IllegalArgumentException();
+        }
+
+        return node.value;
+    }
+
+    public KeyValue<K, V> find(K key) {
+        Node<K, V> node = this.findNode(key);
+
+        if (node == null) {
+            return null;
+        }
+
+        return new KeyValue<>(node.key, node.value);
+    }
+
+    public boolean containsKey(K key) {
+        return this.findNode(key) != null;
+    }
+
+    public boolean remove(K key) {
+        int hash = spread(key.hashCode());
+
+        while (true) {
+            this.helpPendingTransfer();
+
+            AtomicReferenceArray<Node<K, V>> tab = this.table;
+            int index = hash & (tab.length() - 1);
+            ReentrantLock lock = this.lockFor(hash);
+
+            lock.lock();
+            try {
+                Node<K, V> head = tab.get(index);
+                if (tab != this.table || head instanceof ForwardingNode) {
+                    continue;
+                }
+
+                Node<K, V> target = head;
+                while (target != null && !(target.hash == hash && target.key.equals(key))) {
+                    target = target.next;
+                }
+
+                if (target == null) {
+                    return false;
+                }
+
+                // Chains are immutable, so the nodes in front of the removed one are copied.
+                Node<K, V> newHead = target.next;
+                for (Node<K, V> node = head; node != target; node = node.next) {
+                    newHead = new Node<>(node.hash, node.key, node.value, newHead);
+                }
+
+                tab.set(index, newHead);
+                this.count.decrement();
+
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        return (int) this.count.sum();
+    }
+
+    public int capacity() {
+        return this.table.length();
+    }
+
+    public void clear() {
+        while (true) {
+            this.helpPendingTransfer();
+
+            this.resizeLock.lock();
+            try {
+                if (this.transfer != null) {
+                    continue;
+                }
+
+                for (ReentrantLock lock : this.locks) {
+                    lock.lock();
+                }
+
+                try {
+                    this.table = new AtomicReferenceArray<>(tableSizeFor(INITIAL_CAPACITY));
+                    this.count.reset();
+                } finally {
+                    for (ReentrantLock lock : this.locks) {
+                        lock.unlock();
+                    }
+                }
+
+                return;
+            } finally {
+                this.resizeLock.unlock();
+            }
+        }
+    }
+
+    public Iterable<K> keys() {
+        LinkedList<K> keys = new LinkedList<>();
+        this.forEach(e -> keys.add(e.getKey()));
+
+        return keys;
+    }
+
+    public Iterable<V> values() {
+        LinkedList<V> values = new LinkedList<>();
+        this.forEach(e -> values.add(e.getValue()));
+
+        return values;
+    }
+
+    /**
+     * Weakly consistent: every entry present for the whole iteration is returned exactly once,
+     * concurrent changes may or may not be reflected.
+     */
+    @Override
+    public Iterator<KeyValue<K, V>> iterator() {
+        return new ConcurrentHashTableIterator(this.table);
+    }
+
+    private boolean put(K key, V value, boolean replace) {
+        int hash = spread(key.hashCode());
+
+        while (true) {
+            this.helpPendingTransfer();
+
+            AtomicReferenceArray<Node<K, V>> tab = this.table;
+            int index = hash & (tab.length() - 1);
+            ReentrantLock lock = this.lockFor(hash);
+
+            lock.lock();
+            try {
+                Node<K, V> head = tab.get(index);
+                if (tab != this.table || head instanceof ForwardingNode) {
+                    continue;
+                }
+
+                for (Node<K, V> node = head; node != null; node = node.next) {
+                    if (node.hash == hash && node.key.equals(key)) {
+                        if (replace) {
+                            node.value = value;
+                        }
+
+                        return true;
+                    }
+                }
+
+                tab.set(index, new Node<>(hash, key, value, head));
+                this.count.increment();
+            } finally {
+                lock.unlock();
+            }
+
+            if (this.count.sum() > LOAD_FACTOR * tab.length()) {
+                this.startTransfer(tab);
+            }
+
+            return false;
+        }
+    }
+
+    private Node<K, V> findNode(K key) {
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+
+        while (true) {
+            Node<K, V> node = tab.get(hash & (tab.length() - 1));
+
+            if (node instanceof ForwardingNode) {
+                tab = ((ForwardingNode<K, V>) node).nextTable;
+                continue;
+            }
+
+            for (; node != null; node = node.next) {
+                if (node.hash == hash && node.key.equals(key)) {
+                    return node;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    private void startTransfer(AtomicReferenceArray<Node<K, V>> tab) {
+        this.resizeLock.lock();
+        try {
+            if (this.table != tab || this.transfer != null || this.count.sum() <= LOAD_FACTOR * tab.length()) {
+                return;
+            }
+
+            this.transfer = new Transfer<>(tab);
+        } finally {
+            this.resizeLock.unlock();
+        }
+
+        this.helpPendingTransfer();
+    }
+
+    private void helpPendingTransfer() {
+        Transfer<K, V> transfer = this.transfer;
+
+        if (transfer == null) {
+            return;
+        }
+
+        int length = transfer.source.length();
+        while (true) {
+            int start = transfer.nextChunk.getAndAdd(TRANSFER_CHUNK);
+            if (start >= length) {
+                break;
+            }
+
+            int end = Math.min(start + TRANSFER_CHUNK, length);
+            for (int i = start; i < end; i++) {
+                this.moveBucket(transfer, i);
+            }
+
+            if (transfer.moved.addAndGet(end - start) == length) {
+                this.completeTransfer(transfer);
+            }
+        }
+
+        // The remaining chunks are owned by other threads which finish them without waiting.
+        while (this.transfer == transfer) {
+            Thread.onSpinWait();
+            Thread.yield();
+        }
+    }
+
+    private void moveBucket(Transfer<K, V> transfer, int index) {
+        int length = transfer.source.length();
+        ReentrantLock lock = this.locks[index & (STRIPES - 1)];
+
+        lock.lock();
+        try {
+            Node<K, V> low = null;
+            Node<K, V> high = null;
+
+            for (Node<K, V> node = transfer.source.get(index); node != null; node = node.next) {
+                if ((node.hash & length) == 0) {
+                    low = new Node<>(node.hash, node.key, node.value, low);
+                } else {
+                    high = new Node<>(node.hash, node.key, node.value, high);
+                }
+            }
+
+            transfer.target.set(index, low);
+            transfer.target.set(index + length, high);
+            transfer.source.set(index, transfer.forwarding);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void completeTransfer(Transfer<K, V> transfer) {
+        this.resizeLock.lock();
+        try {
+            this.table = transfer.target;
+            this.transfer = null;
+        } finally {
+            this.resizeLock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(int hash) {
+        return this.locks[hash & (STRIPES - 1)];
+    }
+
+    private static int spread(int hashCode) {
+        return (hashCode ^ (hashCode >>> 16)) & Integer.MAX_VALUE;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int size = STRIPES;
+        while (size < capacity) {
+            size <<= 1;
+        }
+
+        return size;
+    }
+
+    private static class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        final Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private static class ForwardingNode<K, V> extends Node<K, V> {
+        final AtomicReferenceArray<Node<K, V>> nextTable;
+
+        ForwardingNode(AtomicReferenceArray<Node<K, V>> nextTable) {
+            super(MOVED, null, null, null);
+            this.nextTable = nextTable;
+        }
+    }
+
+    private static class Transfer<K, V> {
+        final AtomicReferenceArray<Node<K, V>> source;
+        final AtomicReferenceArray<Node<K, V>> target;
+        final ForwardingNode<K, V> forwarding;
+        final AtomicInteger nextChunk = new AtomicInteger();
+        final AtomicInteger moved = new AtomicInteger();
+
+        Transfer(AtomicReferenceArray<Node<K, V>> source) {
+            this.source = source;
+            this.target = new AtomicReferenceArray<>(2 * source.length());
+            this.forwarding = new ForwardingNode<>(this.target);
+        }
+    }
+
+    private class ConcurrentHashTableIterator implements Iterator<KeyValue<K, V>> {
+        private final AtomicReferenceArray<Node<K, V>> tab;
+        private final List<Node<K, V>> buffer = new ArrayList<>();
+        private int pointer = 0;
+        private int bufferPointer = 0;
+
+        ConcurrentHashTableIterator(AtomicReferenceArray<Node<K, V>> tab) {
+            this.tab = tab;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.bufferPointer == this.buffer.size() && this.pointer < this.tab.length()) {
+                this.buffer.clear();
+                this.bufferPointer = 0;
+                this.collect(this.tab, this.pointer++);
+            }
+
+            return this.bufferPointer < this.buffer.size();
+        }
+
+        @Override
+        public KeyValue<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Node<K, V> node = this.buffer.get(this.bufferPointer++);
+            return new KeyValue<>(node.key, node.value);
+        }
+
+        // A moved bucket is split over two buckets of the next table, which may have moved on too.
+        private void collect(AtomicReferenceArray<Node<K, V>> table, int index) {
+            Node<K, V> node = table.get(index);
+
+            if (node instanceof ForwardingNode) {
+                AtomicReferenceArray<Node<K, V>> next = ((ForwardingNode<K, V>) node).nextTable;
+                this.collect(next, index);
+                this.collect(next, index + table.length());
+                return;
+            }
+
+            for (; node != null; node = node.next) {
+                this.buffer.add(node);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package implementations;
+
+// Count-min sketch of 4-bit counters, sixteen to a long. Every key bumps one counter in each of
+// four rows and its estimate is the smallest of the four. Once the sketch has seen ten times as
+// many accesses as the cache holds, all counters are halved, so old popularity fades away.
+class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int length = 1;
+        while (length < maximumSize) {
+            length <<= 1;
+        }
+
+        this.table = new long[length];
+        this.mask = length - 1;
+        this.sampleSize = 10 * Math.max(1, maximumSize);
+    }
+
+    int frequency(int hash) {
+        int frequency = Integer.MAX_VALUE;
+
+        for (int i = 0; i < SEEDS.length; i++) {
+            long index = indexOf(hash, i);
+            int counter = (int) ((this.table[(int) index & this.mask] >>> (index >>> 32)) & 0xF);
+            frequency = Math.min(frequency, counter);
+        }
+
+        return frequency;
+    }
+
+    void increment(int hash) {
+        boolean added = false;
+
+        for (int i = 0; i < SEEDS.length; i++) {
+            long index = indexOf(hash, i);
+            int slot = (int) index & this.mask;
+            int offset = (int) (index >>> 32);
+
+            if (((this.table[slot] >>> offset) & 0xF) != 0xF) {
+                this.table[slot] += 1L << offset;
+                added = true;
+            }
+        }
+
+        if (added && ++this.additions == this.sampleSize) {
+            this.reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < this.table.length; i++) {
+            this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+        }
+
+        this.additions /= 2;
+    }
+
+    // Low half: the slot, high half: the bit offset of the counter inside it
+    private static long indexOf(int hash, int row) {
+        long x = (hash + SEEDS[row]) * SEEDS[row];
+        x += x >>> 32;
+
+        return (x & 0xFFFFFFFFL) | ((x >>> 60) << 2) << 32;
+    }
+}
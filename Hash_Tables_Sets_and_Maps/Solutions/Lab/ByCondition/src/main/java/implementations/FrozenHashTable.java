@@ -0,0 +1,290 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable snapshot of a {@link HashTable}, built by {@link HashTable#freeze()}.
+ * <p>
+ * Keys and values sit in dense arrays indexed by a minimal perfect hash (CHD, "hash, displace and
+ * compress"): a key's hash picks a bucket, the bucket's seed picks the key's slot, and the seeds are
+ * chosen while building so that no two keys share a slot. A lookup reads one seed and one key; there
+ * are no chains and no empty slots.
+ * <p>
+ * Distinct keys with equal hash codes cannot be told apart by any function of the hash, so all but
+ * one of them go to a small overflow table, which is only consulted when it exists.
+ */
+public class FrozenHashTable<K, V> implements Iterable<KeyValue<K, V>> {
+    // Average keys per bucket: bigger buckets need fewer seeds but longer seed searches.
+    private static final int BUCKET_SIZE = 4;
+
+    private final int[] seeds;
+    private final Object[] keys;
+    private final Object[] values;
+    private final HashTable<K, V> overflow;
+
+    @SuppressWarnings("unchecked")
+    FrozenHashTable(HashTable<K, V> source) {
+        int count = source.size();
+        int[] hashes = new int[count];
+        Object[] sourceKeys = new Object[count];
+        Object[] sourceValues = new Object[count];
+
+        int position = 0;
+        for (KeyValue<K, V> element : source) {
+            hashes[position] = hash(element.getKey());
+            sourceKeys[position] = element.getKey();
+            sourceValues[position] = element.getValue();
+            position++;
+        }
+
+        boolean[] overflowed = this.findEqualHashes(hashes);
+        HashTable<K, V> overflow = null;
+        int size = count;
+
+        for (int i = 0; i < count; i++) {
+            if (overflowed[i]) {
+                if (overflow == null) {
+                    overflow = new HashTable<>();
+                }
+
+                overflow.add((K) sourceKeys[i], (V) sourceValues[i]);
+                size--;
+            }
+        }
+
+        this.overflow = overflow;
+        this.seeds = new int[Math.max(1, size / BUCKET_SIZE)];
+        this.keys = new Object[size];
+        this.values = new Object[size];
+
+        // Counting sort of the entries by bucket
+        int[] bucketStart = new int[this.seeds.length + 1];
+        for (int i = 0; i < count; i++) {
+            if (!overflowed[i]) {
+                bucketStart[bucketOf(hashes[i], this.seeds.length) + 1]++;
+            }
+        }
+
+        int largestBucket = 0;
+        for (int bucket = 0; bucket < this.seeds.length; bucket++) {
+            largestBucket = Math.max(largestBucket, bucketStart[bucket + 1]);
+            bucketStart[bucket + 1] += bucketStart[bucket];
+        }
+
+        int[] members = new int[size];
+        int[] fill = Arrays.copyOf(bucketStart, this.seeds.length);
+        for (int i = 0; i < count; i++) {
+            if (!overflowed[i]) {
+                members[fill[bucketOf(hashes[i], this.seeds.length)]++] = i;
+            }
+        }
+
+        // Biggest buckets first, while most slots are still free and a seed is easy to find.
+        boolean[] taken = new boolean[size];
+        int[] slots = new int[largestBucket];
+
+        for (int bucket : this.bucketsBySizeDescending(bucketStart, largestBucket)) {
+            int start = bucketStart[bucket];
+            int end = bucketStart[bucket + 1];
+
+            int seed = 0;
+            while (!this.tryPlace(hashes, members, start, end, seed, taken, slots)) {
+                seed++;
+            }
+
+            this.seeds[bucket] = seed;
+            for (int j = start; j < end; j++) {
+                this.keys[slots[j - start]] = sourceKeys[members[j]];
+                this.values[slots[j - start]] = sourceValues[members[j]];
+            }
+        }
+    }
+
+    public V get(K key) {
+        int slot = this.findSlot(key);
+
+        if (slot >= 0) {
+            return this.valueAt(slot);
+        }
+
+        if (this.overflow != null) {
+            return this.overflow.get(key);
+        }
+
+        throw new IllegalArgumentException();
+    }
+
+    public KeyValue<K, V> find(K key) {
+        int slot = this.findSlot(key);
+
+        if (slot >= 0) {
+            return new KeyValue<>(this.keyAt(slot), this.valueAt(slot));
+        }
+
+        return this.overflow == null ? null : this.overflow.find(key);
+    }
+
+    public boolean containsKey(K key) {
+        return this.findSlot(key) >= 0 || (this.overflow != null && this.overflow.containsKey(key));
+    }
+
+    public int size() {
+        return this.keys.length + (this.overflow == null ? 0 : this.overflow.size());
+    }
+
+    public Iterable<K> keys() {
+        return () -> new FrozenIterator<>(this.overflow == null ? null : this.overflow.keys().iterator()) {
+            @Override
+            K element(int slot) {
+                return keyAt(slot);
+            }
+        };
+    }
+
+    public Iterable<V> values() {
+        return () -> new FrozenIterator<>(this.overflow == null ? null : this.overflow.values().iterator()) {
+            @Override
+            V element(int slot) {
+                return valueAt(slot);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<KeyValue<K, V>> iterator() {
+        return new FrozenIterator<>(this.overflow == null ? null : this.overflow.iterator()) {
+            @Override
+            KeyValue<K, V> element(int slot) {
+                return new KeyValue<>(keyAt(slot), valueAt(slot));
+            }
+        };
+    }
+
+    private int findSlot(K key) {
+        if (this.keys.length == 0) {
+            return -1;
+        }
+
+        int hash = hash(key);
+        int slot = slotOf(hash, this.seeds[bucketOf(hash, this.seeds.length)], this.keys.length);
+
+        return key.equals(this.keys[slot]) ? slot : -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int slot) {
+        return (K) this.keys[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) this.values[slot];
+    }
+
+    // Marks every entry whose hash equals the hash of an earlier entry.
+    private boolean[] findEqualHashes(int[] hashes) {
+        long[] sorted = new long[hashes.length];
+        for (int i = 0; i < hashes.length; i++) {
+            sorted[i] = (long) hashes[i] << 32 | i;
+        }
+
+        Arrays.sort(sorted);
+
+        boolean[] equal = new boolean[hashes.length];
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] >> 32 == sorted[i - 1] >> 32) {
+                equal[(int) sorted[i]] = true;
+            }
+        }
+
+        return equal;
+    }
+
+    private int[] bucketsBySizeDescending(int[] bucketStart, int largestBucket) {
+        int buckets = bucketStart.length - 1;
+        int[] position = new int[largestBucket + 2];
+
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            position[largestBucket - (bucketStart[bucket + 1] - bucketStart[bucket]) + 1]++;
+        }
+
+        for (int i = 1; i < position.length; i++) {
+            position[i] += position[i - 1];
+        }
+
+        int[] order = new int[buckets];
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            order[position[largestBucket - (bucketStart[bucket + 1] - bucketStart[bucket])]++] = bucket;
+        }
+
+        return order;
+    }
+
+    // Claims a free slot for every member of the bucket under this seed, or claims nothing.
+    private boolean tryPlace(int[] hashes, int[] members, int start, int end, int seed, boolean[] taken, int[] slots) {
+        for (int j = start; j < end; j++) {
+            int slot = slotOf(hashes[members[j]], seed, taken.length);
+
+            if (taken[slot]) {
+                for (int k = start; k < j; k++) {
+                    taken[slots[k - start]] = false;
+                }
+
+                return false;
+            }
+
+            taken[slot] = true;
+            slots[j - start] = slot;
+        }
+
+        return true;
+    }
+
+    private static int hash(Object key) {
+        return HashSpreader.MURMUR3.spread(key.hashCode());
+    }
+
+    private static int bucketOf(int hash, int buckets) {
+        return reduce(hash, buckets);
+    }
+
+    private static int slotOf(int hash, int seed, int slots) {
+        return reduce(HashSpreader.MURMUR3.spread(hash ^ (0x9E3779B9 * (seed + 1))), slots);
+    }
+
+    // Maps a 32-bit hash onto [0, range) with a multiply and a shift instead of a division.
+    private static int reduce(int hash, int range) {
+        return (int) (((hash & 0xFFFFFFFFL) * range) >>> 32);
+    }
+
+    private abstract class FrozenIterator<T> implements Iterator<T> {
+        private final Iterator<T> overflowIterator;
+        private int slot = 0;
+
+        FrozenIterator(Iterator<T> overflowIterator) {
+            this.overflowIterator = overflowIterator;
+        }
+
+        abstract T element(int slot);
+
+        @Override
+        public boolean hasNext() {
+            return this.slot < keys.length || (this.overflowIterator != null && this.overflowIterator.hasNext());
+        }
+
+        @Override
+        public T next() {
+            if (this.slot < keys.length) {
+                return this.element(this.slot++);
+            }
+
+            if (this.overflowIterator == null) {
+                throw new NoSuchElementException();
+            }
+
+            return this.overflowIterator.next();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package implementations;
+
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+
+/**
+ * Set on top of {@link HashTable}, so it hashes, resizes and treeifies exactly like the map.
+ * <p>
+ * Only the smaller operand is walked element by element. A union copies the larger set's slots,
+ * relinking its entries by their stored hashes without any lookups, then adds the missing elements
+ * of the smaller one. An intersection probes the larger set for every element of the smaller one.
+ * A difference walks this set when it is the smaller one, and otherwise removes the other set's
+ * elements from a copy of this one.
+ * <p>
+ * The overloads taking a {@link ForkJoinPool} split the walk by slot range across the pool once
+ * the walked set is big enough to pay for the forking. The parallel difference always filters
+ * this set, which splits evenly however big the other one is.
+ */
+public class HashSet<E> implements Iterable<E> {
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final HashTable<E, Boolean> table;
+
+    public HashSet() {
+        this.table = new HashTable<>();
+    }
+
+    public HashSet(int capacity) {
+        this.table = new HashTable<>(capacity);
+    }
+
+    private HashSet(HashTable<E, Boolean> table) {
+        this.table = table;
+    }
+
+    // Returns false if the element was already in the set.
+    public boolean add(E element) {
+        return !this.table.addOrReplace(element, Boolean.TRUE);
+    }
+
+    public boolean remove(E element) {
+        return this.table.remove(element);
+    }
+
+    public boolean contains(E element) {
+        return this.table.containsKey(element);
+    }
+
+    public int size() {
+        return this.table.size();
+    }
+
+    public boolean isEmpty() {
+        return this.table.size() == 0;
+    }
+
+    public void clear() {
+        this.table.clear();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return this.table.keys().iterator();
+    }
+
+    public HashSet<E> union(HashSet<E> other) {
+        HashSet<E> larger = this.size() >= other.size() ? this : other;
+        HashSet<E> smaller = larger == this ? other : this;
+        HashSet<E> result = new HashSet<>(larger.table.copySharingEntries(this.size() + other.size()));
+
+        for (E element : smaller) {
+            if (!larger.contains(element)) {
+                result.table.add(element, Boolean.TRUE);
+            }
+        }
+
+        return result;
+    }
+
+    public HashSet<E> intersect(HashSet<E> other) {
+        HashSet<E> larger = this.size() >= other.size() ? this : other;
+        HashSet<E> smaller = larger == this ? other : this;
+        HashSet<E> result = new HashSet<>(HashTable.capacityFor(smaller.size()));
+
+        for (E element : smaller) {
+            if (larger.contains(element)) {
+                result.table.add(element, Boolean.TRUE);
+            }
+        }
+
+        return result;
+    }
+
+    // Elements of this set that are not in the other one
+    public HashSet<E> difference(HashSet<E> other) {
+        if (this.size() > other.size()) {
+            HashSet<E> result = new HashSet<>(this.table.copySharingEntries(this.size()));
+
+            for (E element : other) {
+                result.table.remove(element);
+            }
+
+            return result;
+        }
+
+        HashSet<E> result = new HashSet<>(HashTable.capacityFor(this.size()));
+
+        for (E element : this) {
+            if (!other.contains(element)) {
+                result.table.add(element, Boolean.TRUE);
+            }
+        }
+
+        return result;
+    }
+
+    public boolean containsAll(HashSet<E> other) {
+        // Both sides are sets, so a bigger one cannot fit.
+        if (other.size() > this.size()) {
+            return false;
+        }
+
+        for (E element : other) {
+            if (!this.contains(element)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public HashSet<E> union(HashSet<E> other, ForkJoinPool pool) {
+        HashSet<E> larger = this.size() >= other.size() ? this : other;
+        HashSet<E> smaller = larger == this ? other : this;
+
+        if (larger.size() < PARALLEL_THRESHOLD) {
+            return this.union(other);
+        }
+
+        larger.table.completeMigration();
+        Object[] fromLarger = pool.submit(() -> larger.table.parallelStream()
+                .map(KeyValue::getKey)
+                .toArray()).join();
+        Object[] fromSmaller = pool.submit(() -> smaller.table.parallelStream()
+                .map(KeyValue::getKey)
+                .filter(element -> !larger.contains(element))
+                .toArray()).join();
+
+        return build(fromLarger.length + fromSmaller.length,
+                i -> i < fromLarger.length ? fromLarger[i] : fromSmaller[i - fromLarger.length], pool);
+    }
+
+    public HashSet<E> intersect(HashSet<E> other, ForkJoinPool pool) {
+        HashSet<E> larger = this.size() >= other.size() ? this : other;
+        HashSet<E> smaller = larger == this ? other : this;
+
+        if (smaller.size() < PARALLEL_THRESHOLD) {
+            return this.intersect(other);
+        }
+
+        larger.table.completeMigration();
+        Object[] common = pool.submit(() -> smaller.table.parallelStream()
+                .map(KeyValue::getKey)
+                .filter(larger::contains)
+                .toArray()).join();
+
+        return build(common.length, i -> common[i], pool);
+    }
+
+    public HashSet<E> difference(HashSet<E> other, ForkJoinPool pool) {
+        if (this.size() < PARALLEL_THRESHOLD) {
+            return this.difference(other);
+        }
+
+        other.table.completeMigration();
+        Object[] remaining = pool.submit(() -> this.table.parallelStream()
+                .map(KeyValue::getKey)
+                .filter(element -> !other.contains(element))
+                .toArray()).join();
+
+        return build(remaining.length, i -> remaining[i], pool);
+    }
+
+    public boolean containsAll(HashSet<E> other, ForkJoinPool pool) {
+        if (other.size() < PARALLEL_THRESHOLD || other.size() > this.size()) {
+            return this.containsAll(other);
+        }
+
+        this.table.completeMigration();
+        return pool.submit(() -> other.table.parallelStream()
+                .allMatch(element -> this.contains(element.getKey()))).join();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> HashSet<E> build(int length, IntFunction<Object> elements, ForkJoinPool pool) {
+        return new HashSet<>(HashTable.bulkBuild(length, i -> (E) elements.apply(i), i -> Boolean.TRUE, HashTable.BulkMode.ADD, pool));
+    }
+}
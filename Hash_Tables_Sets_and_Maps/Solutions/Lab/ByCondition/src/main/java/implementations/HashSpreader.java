@@ -0,0 +1,30 @@
+package implementations;
+
+/**
+ * Mixes a key's {@code hashCode()} before {@link HashTable} masks it down to a slot number.
+ * Capacities are powers of two, so only the low bits pick the slot and weak hash codes
+ * (sequential ids, small integers) need their high bits folded in first.
+ */
+@FunctionalInterface
+public interface HashSpreader {
+    // Uses the hash code as is; only safe when the low bits are already well distributed.
+    HashSpreader IDENTITY = hash -> hash;
+
+    // One multiply by 2^32 / phi, the cheapest mixer that still scatters runs of consecutive keys.
+    // The product's top bits are the well mixed ones, so they are reversed into the low bits the
+    // table masks; a fold of the high half would leave multiples of a large power of two crowded.
+    HashSpreader FIBONACCI = hash -> Integer.reverse(hash * 0x9E3779B9);
+
+    // The murmur3 finalizer: every input bit affects every output bit.
+    HashSpreader MURMUR3 = hash -> {
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    };
+
+    int spread(int hash);
+}
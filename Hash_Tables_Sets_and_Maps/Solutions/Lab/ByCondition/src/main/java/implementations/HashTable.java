@@ -0,0 +1,851 @@
+package implementations;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class HashTable<K, V> implements Iterable<KeyValue<K, V>> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.80d;
+    // Halving at a fifth full leaves the table two fifths full, far from both limits, so add/remove
+    // churn around either of them never flips the capacity back and forth. A shrink waits for an
+    // unfinished migration, which the low-water mark can be reached well before.
+    private static final double SHRINK_LOAD_FACTOR = 0.20d;
+    // Fewest old buckets moved per operation. A resize raises the step so the migration is done
+    // before the size can reach either resize threshold, whichever is nearer.
+    private static final int MIGRATION_STEP = 4;
+    // Longer chains turn into trees ordered by hash and Comparable key, so a flood of colliding
+    // keys costs O(log n) per lookup. The gap between the two keeps a bucket from flip-flopping.
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+
+    public enum ResizeMode {
+        EAGER,
+        INCREMENTAL
+    }
+
+    public enum BulkMode {
+        // A duplicate key fails the whole build, like add()
+        ADD,
+        // The last value given for a key wins, like addOrReplace()
+        ADD_OR_REPLACE
+    }
+
+    private final ResizeMode resizeMode;
+    private final HashSpreader spreader;
+
+    private Bucket<K, V>[] slots;
+    private Bucket<K, V>[] oldSlots;
+    private int migrationPointer;
+    private int migrationStep;
+    private int maxMigrationCost;
+    private int resizeCount;
+    private int count;
+    private int capacity;
+    // Automatic shrinking never goes below the capacity the table was created with.
+    private int minimumCapacity;
+
+    // Optional front for misses. Removed keys keep their bits until the next resize builds a
+    // fresh filter, so stale bits only cost false positives, never a missed key.
+    private double falsePositiveRate;
+    private BloomFilter filter;
+    private BloomFilter oldFilter;
+    private long filterRejections;
+    private long filterFalsePositives;
+
+    public HashTable() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public HashTable(int capacity) {
+        this(capacity, ResizeMode.EAGER);
+    }
+
+    public HashTable(int capacity, ResizeMode resizeMode) {
+        this(capacity, resizeMode, HashSpreader.FIBONACCI);
+    }
+
+    // The capacity is rounded up to a power of two, so a slot number is a mask of the spread hash.
+    public HashTable(int capacity, ResizeMode resizeMode, HashSpreader spreader) {
+        this.resizeMode = resizeMode;
+        this.spreader = spreader;
+        this.capacity = tableSizeFor(capacity);
+        this.minimumCapacity = this.capacity;
+        this.slots = createSlots(this.capacity);
+        this.count = 0;
+    }
+
+    public static <K, V> HashTable<K, V> bulkBuild(KeyValue<K, V>[] elements, BulkMode mode) {
+        return bulkBuild(elements, mode, ForkJoinPool.commonPool());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> HashTable<K, V> bulkBuild(Collection<KeyValue<K, V>> elements, BulkMode mode) {
+        return bulkBuild((KeyValue<K, V>[]) elements.toArray(new KeyValue[0]), mode);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> HashTable<K, V> bulkBuild(Stream<KeyValue<K, V>> elements, BulkMode mode) {
+        return bulkBuild((KeyValue<K, V>[]) elements.toArray(KeyValue[]::new), mode);
+    }
+
+    /**
+     * Builds a table from a whole batch of pairs at once. The slot array is sized for the batch up
+     * front, so it never grows, the pairs are partitioned by slot range and every range is filled
+     * by its own ForkJoin task. No two tasks touch the same slot, so nothing is locked.
+     */
+    public static <K, V> HashTable<K, V> bulkBuild(KeyValue<K, V>[] elements, BulkMode mode, ForkJoinPool pool) {
+        return bulkBuild(elements.length, i -> elements[i].getKey(), i -> elements[i].getValue(), mode, pool);
+    }
+
+    // Pairs given as index -> key and index -> value, so callers without KeyValue instances need not make any.
+    static <K, V> HashTable<K, V> bulkBuild(int length, IntFunction<K> keys, IntFunction<V> values, BulkMode mode, ForkJoinPool pool) {
+        HashTable<K, V> table = new HashTable<>(capacityFor(length));
+        table.minimumCapacity = INITIAL_CAPACITY;
+        table.fill(length, keys, values, mode, pool);
+
+        return table;
+    }
+
+    // Smallest capacity that holds the batch without the next add() having to grow.
+    static int capacityFor(int count) {
+        return Math.max(INITIAL_CAPACITY, (int) Math.ceil((count + 1) / LOAD_FACTOR));
+    }
+
+    private void fill(int length, IntFunction<K> keys, IntFunction<V> values, BulkMode mode, ForkJoinPool pool) {
+        int partitions = Math.min(this.capacity, tableSizeFor(4 * pool.getParallelism()));
+        int shift = Integer.numberOfTrailingZeros(this.capacity / partitions);
+
+        // Each input chunk hashes its pairs and counts how many fall into every partition.
+        int[] hashes = new int[length];
+        int[][] offsets = new int[partitions][partitions];
+        runInParallel(pool, partitions, chunk -> {
+            for (int i = chunkStart(length, chunk, partitions); i < chunkStart(length, chunk + 1, partitions); i++) {
+                hashes[i] = this.hash(keys.apply(i));
+                offsets[chunk][this.findSlotNumber(hashes[i]) >>> shift]++;
+            }
+        });
+
+        // Within a partition the chunks are laid out in input order, so a later duplicate is
+        // still applied after an earlier one.
+        int[] partitionStart = new int[partitions + 1];
+        int offset = 0;
+        for (int partition = 0; partition < partitions; partition++) {
+            partitionStart[partition] = offset;
+
+            for (int chunk = 0; chunk < partitions; chunk++) {
+                int chunkCount = offsets[chunk][partition];
+                offsets[chunk][partition] = offset;
+                offset += chunkCount;
+            }
+        }
+        partitionStart[partitions] = length;
+
+        int[] order = new int[length];
+        runInParallel(pool, partitions, chunk -> {
+            for (int i = chunkStart(length, chunk, partitions); i < chunkStart(length, chunk + 1, partitions); i++) {
+                order[offsets[chunk][this.findSlotNumber(hashes[i]) >>> shift]++] = i;
+            }
+        });
+
+        int[] added = new int[partitions];
+        runInParallel(pool, partitions, partition -> {
+            for (int j = partitionStart[partition]; j < partitionStart[partition + 1]; j++) {
+                K key = keys.apply(order[j]);
+                int hash = hashes[order[j]];
+                int slotNumber = this.findSlotNumber(hash);
+                Bucket<K, V> bucket = this.slots[slotNumber];
+                KeyValue<K, V> existing = bucket == null ? null : bucket.find(hash, key);
+
+                if (existing == null) {
+                    this.insert(this.slots, slotNumber, hash, new KeyValue<>(key, values.apply(order[j])));
+                    added[partition]++;
+                } else if (mode == BulkMode.ADD) {
+                    throw new IllegalArgumentException("Key already exists: " + key);
+                } else {
+                    existing.setValue(values.apply(order[j]));
+                }
+            }
+        });
+
+        for (int partitionCount : added) {
+            this.count += partitionCount;
+        }
+    }
+
+    private static int chunkStart(int length, int chunk, int chunks) {
+        return (int) ((long) length * chunk / chunks);
+    }
+
+    private static void runInParallel(ForkJoinPool pool, int tasks, IntConsumer task) {
+        pool.invoke(new RangeAction(0, tasks, task));
+    }
+
+    public void add(K key, V value) {
+        this.growIfNeeded();
+
+        int hash = this.hash(key);
+        int slotNumber = this.prepareSlot(hash);
+        Bucket<K, V> bucket = this.slots[slotNumber];
+
+        if (bucket != null && bucket.find(hash, key) != null) {
+            throw new IllegalArgumentException("Key already exists: " + key);
+        }
+
+        KeyValue<K, V> kvp = new KeyValue<>(key, value);
+        this.insert(this.slots, slotNumber, hash, kvp);
+        this.addToFilter(hash);
+        this.count++;
+    }
+
+    private int findSlotNumber(int hash) {
+        return findSlotNumber(hash, this.slots.length);
+    }
+
+    private int findSlotNumber(int hash, int length) {
+        return hash & (length - 1);
+    }
+
+    private int hash(K key) {
+        return this.spreader.spread(key.hashCode());
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+
+        return size;
+    }
+
+    private void insert(Bucket<K, V>[] slots, int slotNumber, int hash, KeyValue<K, V> entry) {
+        Bucket<K, V> bucket = slots[slotNumber];
+
+        if (bucket == null) {
+            bucket = new ChainBucket<>();
+            slots[slotNumber] = bucket;
+        }
+
+        bucket.insert(hash, entry);
+
+        if (bucket.size() > TREEIFY_THRESHOLD && bucket instanceof ChainBucket) {
+            slots[slotNumber] = new TreeBucket<>(bucket);
+        }
+    }
+
+    private void growIfNeeded() {
+        if ((double) (this.size() + 1) / this.capacity > LOAD_FACTOR) {
+            this.grow();
+        }
+    }
+
+    private void grow() {
+        this.resize(2 * this.capacity);
+    }
+
+    private void shrinkIfNeeded() {
+        if (this.oldSlots == null && this.capacity > this.minimumCapacity
+                && this.count < this.capacity * SHRINK_LOAD_FACTOR) {
+            this.resize(this.capacity / 2);
+        }
+    }
+
+    /**
+     * Shrinks the slot array to the smallest capacity that still holds the current elements
+     * without growing on the next add, and finishes the move right away.
+     */
+    public void trimToSize() {
+        int capacity = tableSizeFor(capacityFor(this.count));
+
+        if (capacity < this.capacity) {
+            this.resize(capacity);
+            this.completeMigration();
+        }
+    }
+
+    private void resize(int capacity) {
+        // A resize that is still in flight has to land before the next one starts. The step is
+        // sized so that this finds nothing left to move; its cost still counts if it does.
+        this.recordMigrationCost(this.finishMigration());
+
+        this.oldSlots = this.slots;
+        this.migrationPointer = 0;
+        this.slots = createSlots(capacity);
+        this.capacity = capacity;
+        this.migrationStep = this.migrationStepFor(this.oldSlots.length);
+        this.resizeCount++;
+
+        // Until the migration is done a key may be covered by either filter.
+        if (this.filter != null) {
+            this.oldFilter = this.filter;
+            this.filter = this.createFilter();
+        }
+
+        if (this.resizeMode == ResizeMode.EAGER) {
+            this.completeMigration();
+        }
+    }
+
+    // Writes move the key's old bucket over first, so a key always lives in exactly one
+    // place: its old bucket while that has not been migrated yet, otherwise its new one.
+    private int prepareSlot(int hash) {
+        int cost = this.migrateStep();
+
+        if (this.oldSlots != null) {
+            cost += this.migrateBucket(this.findSlotNumber(hash, this.oldSlots.length));
+        }
+
+        this.recordMigrationCost(cost);
+        return this.findSlotNumber(hash);
+    }
+
+    private Bucket<K, V> findSlot(int hash) {
+        this.recordMigrationCost(this.migrateStep());
+
+        if (this.oldSlots != null) {
+            Bucket<K, V> oldSlot = this.oldSlots[this.findSlotNumber(hash, this.oldSlots.length)];
+            if (oldSlot != null) {
+                return oldSlot;
+            }
+        }
+
+        return this.slots[this.findSlotNumber(hash)];
+    }
+
+    // Every operation moves the size by at most one, so spreading the old buckets over the
+    // operations left before the nearer threshold keeps each one's share constant.
+    private int migrationStepFor(int oldLength) {
+        int untilGrow = (int) (this.capacity * LOAD_FACTOR) - this.count;
+        int untilShrink = this.capacity > this.minimumCapacity
+                ? this.count - (int) Math.ceil(this.capacity * SHRINK_LOAD_FACTOR) + 1
+                : Integer.MAX_VALUE;
+        int operations = Math.max(1, Math.min(untilGrow, untilShrink));
+
+        return Math.max(MIGRATION_STEP, (oldLength + operations - 1) / operations);
+    }
+
+    private int migrateStep() {
+        if (this.oldSlots == null) {
+            return 0;
+        }
+
+        int cost = 0;
+        int end = Math.min(this.migrationPointer + this.migrationStep, this.oldSlots.length);
+
+        while (this.migrationPointer < end) {
+            cost += this.migrateBucket(this.migrationPointer++);
+        }
+
+        if (this.migrationPointer == this.oldSlots.length) {
+            this.oldSlots = null;
+            this.oldFilter = null;
+        }
+
+        return cost;
+    }
+
+    private int migrateBucket(int oldSlotNumber) {
+        Bucket<K, V> oldSlot = this.oldSlots[oldSlotNumber];
+
+        if (oldSlot == null) {
+            return 0;
+        }
+
+        // Keys are unique already, so the entries are relinked without any duplicate scan.
+        for (Bucket.Node<K, V> node = oldSlot.first(); node != null; node = node.next) {
+            this.insert(this.slots, this.findSlotNumber(node.hash), node.hash, node.entry);
+            this.addToFilter(node.hash);
+        }
+
+        this.oldSlots[oldSlotNumber] = null;
+        return oldSlot.size();
+    }
+
+    // Also called before handing the table to several reader threads: with no migration pending,
+    // lookups never move entries around.
+    void completeMigration() {
+        this.finishMigration();
+    }
+
+    private int finishMigration() {
+        int cost = 0;
+        while (this.oldSlots != null) {
+            cost += this.migrateStep();
+        }
+
+        return cost;
+    }
+
+    private void recordMigrationCost(int cost) {
+        if (cost > this.maxMigrationCost) {
+            this.maxMigrationCost = cost;
+        }
+    }
+
+    public int size() {
+        return this.count;
+    }
+
+    public int capacity() {
+        return this.capacity;
+    }
+
+    public ResizeMode resizeMode() {
+        return this.resizeMode;
+    }
+
+    public boolean isMigrating() {
+        return this.oldSlots != null;
+    }
+
+    public int pendingMigrationSlots() {
+        return this.oldSlots == null ? 0 : this.oldSlots.length - this.migrationPointer;
+    }
+
+    public int maxMigrationCost() {
+        return this.maxMigrationCost;
+    }
+
+    public HashSpreader spreader() {
+        return this.spreader;
+    }
+
+    public int resizeCount() {
+        return this.resizeCount;
+    }
+
+    public double loadFactor() {
+        return (double) this.count / this.capacity;
+    }
+
+    /**
+     * Number of slots per bucket size: {@code histogram[0]} is the number of empty slots,
+     * {@code histogram[i]} the number of buckets holding {@code i} entries. Walks every slot.
+     * During a migration the buckets not moved yet are counted too, while the empty count is
+     * that of the new slot array. Nothing is migrated, so a call never changes the table.
+     */
+    public int[] chainLengthHistogram() {
+        int longest = Math.max(this.longestBucket(this.slots, 0), this.longestBucket(this.oldSlots, this.migrationPointer));
+
+        int[] histogram = new int[longest + 1];
+        for (Bucket<K, V> bucket : this.slots) {
+            histogram[bucket == null ? 0 : bucket.size()]++;
+        }
+        if (this.oldSlots != null) {
+            for (int i = this.migrationPointer; i < this.oldSlots.length; i++) {
+                if (this.oldSlots[i] != null) {
+                    histogram[this.oldSlots[i].size()]++;
+                }
+            }
+        }
+
+        return histogram;
+    }
+
+    // Most entries a lookup has to compare against: the chain length, or the height of a tree bucket.
+    // Like the histogram it also looks at the buckets still waiting to migrate, without moving them.
+    public int maxProbeDepth() {
+        return Math.max(this.maxProbeDepth(this.slots, 0), this.maxProbeDepth(this.oldSlots, this.migrationPointer));
+    }
+
+    private int longestBucket(Bucket<K, V>[] slots, int from) {
+        int longest = 0;
+
+        if (slots != null) {
+            for (int i = from; i < slots.length; i++) {
+                if (slots[i] != null && slots[i].size() > longest) {
+                    longest = slots[i].size();
+                }
+            }
+        }
+
+        return longest;
+    }
+
+    private int maxProbeDepth(Bucket<K, V>[] slots, int from) {
+        int depth = 0;
+
+        if (slots != null) {
+            for (int i = from; i < slots.length; i++) {
+                Bucket<K, V> bucket = slots[i];
+                if (bucket != null) {
+                    int probes = bucket instanceof TreeBucket ? ((TreeBucket<K, V>) bucket).height() : bucket.size();
+                    depth = Math.max(depth, probes);
+                }
+            }
+        }
+
+        return depth;
+    }
+
+    public boolean addOrReplace(K key, V value) {
+        this.growIfNeeded();
+
+        int hash = this.hash(key);
+        int slotNumber = this.prepareSlot(hash);
+        Bucket<K, V> bucket = this.slots[slotNumber];
+
+        if (bucket != null) {
+            KeyValue<K, V> element = bucket.find(hash, key);
+            if (element != null) {
+                element.setValue(value);
+                return true;
+            }
+        }
+
+        KeyValue<K, V> kvp = new KeyValue<>(key, value);
+        this.insert(this.slots, slotNumber, hash, kvp);
+        this.addToFilter(hash);
+        this.count++;
+
+        return false;
+    }
+
+    public V get(K key) {
+        KeyValue<K, V> element = this.find(key);
+
+        if (element == null) {
+            throw new IllegalArgumentException();
+        }
+
+        return element.getValue();
+    }
+
+    public KeyValue<K, V> find(K key) {
+        int hash = this.hash(key);
+
+        if (this.filter != null && !this.filter.mightContain(hash)
+                && (this.oldFilter == null || !this.oldFilter.mightContain(hash))) {
+            this.filterRejections++;
+            return null;
+        }
+
+        Bucket<K, V> bucket = this.findSlot(hash);
+        KeyValue<K, V> element = bucket == null ? null : bucket.find(hash, key);
+
+        if (element == null && this.filter != null) {
+            this.filterFalsePositives++;
+        }
+
+        return element;
+    }
+
+    /**
+     * Puts a blocked Bloom filter in front of {@link #find}, so most lookups of absent keys are
+     * answered without touching a bucket. The filter is sized for the current capacity and rebuilt
+     * whenever the table resizes.
+     */
+    public void enableBloomFilter(double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+
+        this.completeMigration();
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = this.createFilter();
+        this.oldFilter = null;
+
+        for (Bucket<K, V> bucket : this.slots) {
+            if (bucket != null) {
+                for (Bucket.Node<K, V> node = bucket.first(); node != null; node = node.next) {
+                    this.filter.add(node.hash);
+                }
+            }
+        }
+    }
+
+    public void disableBloomFilter() {
+        this.filter = null;
+        this.oldFilter = null;
+    }
+
+    public boolean hasBloomFilter() {
+        return this.filter != null;
+    }
+
+    // Lookups the filter answered on its own
+    public long bloomFilterRejections() {
+        return this.filterRejections;
+    }
+
+    // Lookups the filter let through that found nothing
+    public long bloomFilterFalsePositives() {
+        return this.filterFalsePositives;
+    }
+
+    private BloomFilter createFilter() {
+        return new BloomFilter((int) (this.capacity * LOAD_FACTOR), this.falsePositiveRate);
+    }
+
+    private void addToFilter(int hash) {
+        if (this.filter != null) {
+            this.filter.add(hash);
+        }
+    }
+
+    public boolean containsKey(K key) {
+        return find(key) != null;
+    }
+
+    public boolean remove(K key) {
+        int hash = this.hash(key);
+        int slotNumber = this.prepareSlot(hash);
+        Bucket<K, V> bucket = this.slots[slotNumber];
+
+        if (bucket == null || !bucket.remove(hash, key)) {
+            return false;
+        }
+
+        if (bucket.size() == 0) {
+            this.slots[slotNumber] = null;
+        } else if (bucket.size() <= UNTREEIFY_THRESHOLD && bucket instanceof TreeBucket) {
+            this.slots[slotNumber] = new ChainBucket<>(bucket);
+        }
+
+        this.count--;
+        this.shrinkIfNeeded();
+
+        return true;
+    }
+
+    public void clear() {
+        this.slots = createSlots(INITIAL_CAPACITY);
+        this.oldSlots = null;
+        this.count = 0;
+        this.capacity = INITIAL_CAPACITY;
+
+        if (this.filter != null) {
+            this.filter = this.createFilter();
+            this.oldFilter = null;
+        }
+    }
+
+    // Copy with room for the given number of entries. Entries are relinked by their stored hash, so
+    // no hashCode(), equals() or duplicate check runs. The KeyValue objects are shared, so this is
+    // only for tables whose values never change in place, like HashSet's.
+    HashTable<K, V> copySharingEntries(int entries) {
+        this.completeMigration();
+
+        HashTable<K, V> copy = new HashTable<>(capacityFor(Math.max(entries, this.count)), this.resizeMode, this.spreader);
+        copy.minimumCapacity = INITIAL_CAPACITY;
+
+        for (Bucket<K, V> bucket : this.slots) {
+            if (bucket != null) {
+                for (Bucket.Node<K, V> node = bucket.first(); node != null; node = node.next) {
+                    copy.insert(copy.slots, copy.findSlotNumber(node.hash), node.hash, node.entry);
+                }
+            }
+        }
+        copy.count = this.count;
+
+        return copy;
+    }
+
+    // Read-only copy whose lookups never walk a chain, for tables that are loaded once and then only read.
+    public FrozenHashTable<K, V> freeze() {
+        return new FrozenHashTable<>(this);
+    }
+
+    // Live views: nothing is copied, every iteration walks the table as it is at that moment.
+    public Iterable<K> keys() {
+        return KeyIterator::new;
+    }
+
+    public Iterable<V> values() {
+        return ValueIterator::new;
+    }
+
+    @Override
+    public Iterator<KeyValue<K, V>> iterator() {
+        return new HashTableIterator();
+    }
+
+    /**
+     * Splits by slot ranges, so {@code StreamSupport.stream(table.spliterator(), true)} hands every
+     * worker its own part of the slot array.
+     */
+    @Override
+    public Spliterator<KeyValue<K, V>> spliterator() {
+        this.completeMigration();
+        return new SlotSpliterator(this.slots, 0, this.slots.length, this.count);
+    }
+
+    public Stream<KeyValue<K, V>> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    public Stream<KeyValue<K, V>> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
+    private abstract class HashTableCursor<T> implements Iterator<T> {
+        int counter = 0;
+        int pointer = 0;
+        Bucket.Node<K, V> node = null;
+
+        HashTableCursor() {
+            // Walking the table is O(n) anyway, so finishing a pending resize here is free and
+            // keeps lookups made during the iteration from moving entries under the cursor.
+            completeMigration();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.counter < size();
+        }
+
+        Bucket.Node<K, V> nextNode() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            while (this.node == null) {
+                Bucket<K, V> bucket = slots[this.pointer++];
+                if (bucket != null) {
+                    this.node = bucket.first();
+                }
+            }
+
+            Bucket.Node<K, V> result = this.node;
+            this.node = this.node.next;
+
+            this.counter++;
+            return result;
+        }
+    }
+
+    private class HashTableIterator extends HashTableCursor<KeyValue<K, V>> {
+        @Override
+        public KeyValue<K, V> next() {
+            return this.nextNode().entry;
+        }
+    }
+
+    private class KeyIterator extends HashTableCursor<K> {
+        @Override
+        public K next() {
+            return this.nextNode().entry.getKey();
+        }
+    }
+
+    private class ValueIterator extends HashTableCursor<V> {
+        @Override
+        public V next() {
+            return this.nextNode().entry.getValue();
+        }
+    }
+
+    private class SlotSpliterator implements Spliterator<KeyValue<K, V>> {
+        private final Bucket<K, V>[] table;
+        private int pointer;
+        private int fence;
+        private long estimate;
+        private Bucket.Node<K, V> node;
+
+        SlotSpliterator(Bucket<K, V>[] table, int origin, int fence, long estimate) {
+            this.table = table;
+            this.pointer = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super KeyValue<K, V>> action) {
+            while (this.node == null) {
+                if (this.pointer >= this.fence) {
+                    return false;
+                }
+
+                Bucket<K, V> bucket = this.table[this.pointer++];
+                if (bucket != null) {
+                    this.node = bucket.first();
+                }
+            }
+
+            action.accept(this.node.entry);
+            this.node = this.node.next;
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super KeyValue<K, V>> action) {
+            for (; this.node != null; this.node = this.node.next) {
+                action.accept(this.node.entry);
+            }
+
+            for (; this.pointer < this.fence; this.pointer++) {
+                Bucket<K, V> bucket = this.table[this.pointer];
+                if (bucket != null) {
+                    for (Bucket.Node<K, V> node = bucket.first(); node != null; node = node.next) {
+                        action.accept(node.entry);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<KeyValue<K, V>> trySplit() {
+            int middle = (this.pointer + this.fence) >>> 1;
+
+            if (middle <= this.pointer) {
+                return null;
+            }
+
+            this.estimate >>>= 1;
+            SlotSpliterator upper = new SlotSpliterator(this.table, middle, this.fence, this.estimate);
+            this.fence = middle;
+
+            return upper;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+
+    // Runs task(i) for every i in [from, to), splitting the range in halves across the pool.
+    private static class RangeAction extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer task;
+
+        RangeAction(int from, int to, IntConsumer task) {
+            this.from = from;
+            this.to = to;
+            this.task = task;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from == 1) {
+                this.task.accept(this.from);
+                return;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new RangeAction(this.from, middle, this.task), new RangeAction(middle, this.to, this.task));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Bucket<K, V>[] createSlots(int capacity) {
+        return (Bucket<K, V>[]) Array.newInstance(Bucket.class, capacity);
+    }
+}
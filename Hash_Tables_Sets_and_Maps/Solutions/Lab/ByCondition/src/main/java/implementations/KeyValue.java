@@ -1,3 +1,5 @@
+package implementations;
+
 import java.util.Objects;
 
 public class KeyValue<Key, Value> {
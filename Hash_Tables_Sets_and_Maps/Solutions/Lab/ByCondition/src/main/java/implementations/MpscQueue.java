@@ -0,0 +1,47 @@
+package implementations;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// Multi-producer single-consumer linked queue. Producers append with one getAndSet on the tail,
+// the consumer owns the head and never needs a CAS. Between a producer's swap and its link the
+// element is briefly invisible to poll(), which only ever delays it.
+class MpscQueue<T> {
+    private final AtomicReference<Node<T>> tail;
+    private Node<T> head;
+
+    MpscQueue() {
+        Node<T> stub = new Node<>(null);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    private static class Node<T> {
+        T value;
+        volatile Node<T> next;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+
+    void offer(T value) {
+        Node<T> node = new Node<>(value);
+        Node<T> previous = this.tail.getAndSet(node);
+        previous.next = node;
+    }
+
+    // Consumer thread only
+    T poll() {
+        Node<T> next = this.head.next;
+
+        if (next == null) {
+            return null;
+        }
+
+        T value = next.value;
+        next.value = null;
+        this.head = next;
+
+        return value;
+    }
+}
@@ -0,0 +1,308 @@
+package implementations;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+
+/**
+ * Open addressing variant of {@link HashTable}. Keys, values and cached hashes live in flat
+ * parallel arrays, collisions are resolved with Robin Hood linear probing and removal uses
+ * backward-shift deletion, so no tombstones are ever left behind.
+ * <p>
+ * The entries are not stored as {@link KeyValue} objects, so {@link #find(Object)} and the
+ * iterator hand out detached copies - changing their value does not write through to the table.
+ */
+public class RobinHoodHashTable<K, V> implements Iterable<KeyValue<K, V>> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.80d;
+    private static final int EMPTY = 0;
+
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int mask;
+    private int count;
+    private int modifications;
+
+    public RobinHoodHashTable() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public RobinHoodHashTable(int capacity) {
+        this.allocate(tableSizeFor(capacity));
+        this.count = 0;
+    }
+
+    public void add(K key, V value) {
+        if (this.put(key, value, false)) {
+            throw new IllegalArgumentException("Key already exists: " + key);
+        }
+    }
+
+    public boolean addOrReplace(K key, V value) {
+        return this.put(key, value, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int index = this.indexOf(key);
+
+        if (index < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        return (V) this.values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public KeyValue<K, V> find(K key) {
+        int index = this.indexOf(key);
+
+        if (index < 0) {
+            return null;
+        }
+
+        return new KeyValue<>((K) this.keys[index], (V) this.values[index]);
+    }
+
+    public boolean containsKey(K key) {
+        return this.indexOf(key) >= 0;
+    }
+
+    public boolean remove(K key) {
+        int index = this.indexOf(key);
+
+        if (index < 0) {
+            return false;
+        }
+
+        int next = (index + 1) & this.mask;
+        while (this.hashes[next] != EMPTY && this.probeDistance(next) > 0) {
+            this.hashes[index] = this.hashes[next];
+            this.keys[index] = this.keys[next];
+            this.values[index] = this.values[next];
+
+            index = next;
+            next = (next + 1) & this.mask;
+        }
+
+        this.hashes[index] = EMPTY;
+        this.keys[index] = null;
+        this.values[index] = null;
+        this.count--;
+        this.modifications++;
+
+        return true;
+    }
+
+    public int size() {
+        return this.count;
+    }
+
+    public int capacity() {
+        return this.hashes.length;
+    }
+
+    public void clear() {
+        this.allocate(INITIAL_CAPACITY);
+        this.count = 0;
+        this.modifications++;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Iterable<K> keys() {
+        LinkedList<K> keys = new LinkedList<>();
+
+        for (int i = 0; i < this.hashes.length; i++) {
+            if (this.hashes[i] != EMPTY) {
+                keys.add((K) this.keys[i]);
+            }
+        }
+
+        return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Iterable<V> values() {
+        LinkedList<V> values = new LinkedList<>();
+
+        for (int i = 0; i < this.hashes.length; i++) {
+            if (this.hashes[i] != EMPTY) {
+                values.add((V) this.values[i]);
+            }
+        }
+
+        return values;
+    }
+
+    @Override
+    public Iterator<KeyValue<K, V>> iterator() {
+        return new RobinHoodIterator();
+    }
+
+    private boolean put(K key, V value, boolean replace) {
+        int hash = hash(key);
+        int index = hash & this.mask;
+        int distance = 0;
+
+        while (this.hashes[index] != EMPTY) {
+            if (this.hashes[index] == hash && this.keys[index].equals(key)) {
+                if (replace) {
+                    this.values[index] = value;
+                }
+
+                return true;
+            }
+
+            // Every key further along the run would have displaced this slot's occupant,
+            // so the key is absent and this is where it belongs.
+            if (this.probeDistance(index) < distance) {
+                break;
+            }
+
+            index = (index + 1) & this.mask;
+            distance++;
+        }
+
+        if (this.count + 1 > LOAD_FACTOR * this.hashes.length) {
+            this.grow();
+            this.insert(hash, key, value);
+        } else {
+            this.insertAt(index, distance, hash, key, value);
+        }
+
+        this.count++;
+        this.modifications++;
+
+        return false;
+    }
+
+    private void insert(int hash, Object key, Object value) {
+        int index = hash & this.mask;
+        int distance = 0;
+
+        while (this.hashes[index] != EMPTY && this.probeDistance(index) >= distance) {
+            index = (index + 1) & this.mask;
+            distance++;
+        }
+
+        this.insertAt(index, distance, hash, key, value);
+    }
+
+    private void insertAt(int index, int distance, int hash, Object key, Object value) {
+        while (this.hashes[index] != EMPTY) {
+            int existingDistance = this.probeDistance(index);
+
+            if (existingDistance < distance) {
+                int displacedHash = this.hashes[index];
+                Object displacedKey = this.keys[index];
+                Object displacedValue = this.values[index];
+
+                this.hashes[index] = hash;
+                this.keys[index] = key;
+                this.values[index] = value;
+
+                hash = displacedHash;
+                key = displacedKey;
+                value = displacedValue;
+                distance = existingDistance;
+            }
+
+            index = (index + 1) & this.mask;
+            distance++;
+        }
+
+        this.hashes[index] = hash;
+        this.keys[index] = key;
+        this.values[index] = value;
+    }
+
+    private int indexOf(K key) {
+        int hash = hash(key);
+        int index = hash & this.mask;
+        int distance = 0;
+
+        while (this.hashes[index] != EMPTY && this.probeDistance(index) >= distance) {
+            if (this.hashes[index] == hash && this.keys[index].equals(key)) {
+                return index;
+            }
+
+            index = (index + 1) & this.mask;
+            distance++;
+        }
+
+        return -1;
+    }
+
+    private int probeDistance(int index) {
+        return (index - (this.hashes[index] & this.mask)) & this.mask;
+    }
+
+    private void grow() {
+        int[] oldHashes = this.hashes;
+        Object[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+
+        this.allocate(oldHashes.length * 2);
+
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != EMPTY) {
+                this.insert(oldHashes[i], oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        hash ^= hash >>> 16;
+
+        // Zero marks an empty slot, so it is never used as a real hash.
+        return hash == EMPTY ? 1 : hash;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+
+        return size;
+    }
+
+    private class RobinHoodIterator implements Iterator<KeyValue<K, V>> {
+        private final int expectedModifications = modifications;
+        private int pointer = 0;
+
+        @Override
+        public boolean hasNext() {
+            while (this.pointer < hashes.length && hashes[this.pointer] == EMPTY) {
+                this.pointer++;
+            }
+
+            return this.pointer < hashes.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public KeyValue<K, V> next() {
+            if (this.expectedModifications != modifications) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int index = this.pointer++;
+            return new KeyValue<>((K) keys[index], (V) values[index]);
+        }
+    }
+}
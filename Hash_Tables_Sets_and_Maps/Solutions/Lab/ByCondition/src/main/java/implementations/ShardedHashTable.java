@@ -0,0 +1,357 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Hash table split into independent {@link HashTable} shards, each owned by a single worker thread.
+ * <p>
+ * Only the owner ever touches a shard, so the shards need no locks and their cache lines stay on
+ * the owner's core. Callers describe their operations in a {@link Batch}, {@link #submit} splits it
+ * by shard and queues every part on its shard's MPSC queue, and the returned future completes once
+ * all parts have run.
+ * <p>
+ * Workers come from the given {@link ThreadFactory}. On a JDK with virtual threads, passing
+ * {@code Thread.ofVirtual().factory()} runs the shards on virtual threads.
+ */
+public class ShardedHashTable<K, V> implements AutoCloseable {
+    private static final byte GET = 0;
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    private final Shard<K, V>[] shards;
+    // Submitters share the read lock, so close() can wait for every queued batch to be seen.
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    public ShardedHashTable(int shards) {
+        this(shards, daemonThreads());
+    }
+
+    @SuppressWarnings("unchecked")
+    public ShardedHashTable(int shards, ThreadFactory threadFactory) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shards);
+        }
+
+        this.shards = new Shard[shards];
+
+        for (int i = 0; i < shards; i++) {
+            this.shards[i] = new Shard<>();
+            this.shards[i].worker = threadFactory.newThread(this.shards[i]);
+        }
+
+        for (Shard<K, V> shard : this.shards) {
+            shard.worker.start();
+        }
+    }
+
+    /**
+     * Operations to submit together. Results come back in the order the operations were added:
+     * the value for a get, the previous value for a put or a remove, null where there was none.
+     * The workers read the batch while it runs, so it must not change until its future completes.
+     * <p>
+     * A batch is not atomic. If an operation throws, the future fails with the first error once
+     * every shard is done with the batch, and the operations that ran before it, on its shard
+     * and on the others, stay applied.
+     */
+    public static class Batch<K, V> {
+        private byte[] operations = new byte[16];
+        private Object[] keys = new Object[16];
+        private Object[] values = new Object[16];
+        private int size;
+
+        public Batch<K, V> get(K key) {
+            return this.append(GET, key, null);
+        }
+
+        public Batch<K, V> put(K key, V value) {
+            return this.append(PUT, key, value);
+        }
+
+        public Batch<K, V> remove(K key) {
+            return this.append(REMOVE, key, null);
+        }
+
+        public int size() {
+            return this.size;
+        }
+
+        private Batch<K, V> append(byte operation, Object key, Object value) {
+            if (key == null) {
+                throw new IllegalArgumentException("Null keys are not supported");
+            }
+
+            if (this.size == this.operations.length) {
+                this.operations = Arrays.copyOf(this.operations, 2 * this.size);
+                this.keys = Arrays.copyOf(this.keys, 2 * this.size);
+                this.values = Arrays.copyOf(this.values, 2 * this.size);
+            }
+
+            this.operations[this.size] = operation;
+            this.keys[this.size] = key;
+            this.values[this.size] = value;
+            this.size++;
+
+            return this;
+        }
+    }
+
+    public CompletableFuture<List<V>> submit(Batch<K, V> batch) {
+        int operations = batch.size;
+
+        if (operations == 0) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        // Group the operation indexes by shard: count, prefix sums, then scatter.
+        int[] shardOf = new int[operations];
+        int[] shardStart = new int[this.shards.length + 1];
+        for (int i = 0; i < operations; i++) {
+            shardOf[i] = this.shardOf(batch.keys[i]);
+            shardStart[shardOf[i] + 1]++;
+        }
+
+        int parts = 0;
+        for (int shard = 0; shard < this.shards.length; shard++) {
+            parts += shardStart[shard + 1] > 0 ? 1 : 0;
+            shardStart[shard + 1] += shardStart[shard];
+        }
+
+        int[] indexes = new int[operations];
+        int[] fill = Arrays.copyOf(shardStart, this.shards.length);
+        for (int i = 0; i < operations; i++) {
+            indexes[fill[shardOf[i]]++] = i;
+        }
+
+        Completion<V> completion = new Completion<>(operations, parts);
+
+        this.closeLock.readLock().lock();
+        try {
+            if (this.closed) {
+                throw new IllegalStateException("The table is closed");
+            }
+
+            for (int shard = 0; shard < this.shards.length; shard++) {
+                if (shardStart[shard] < shardStart[shard + 1]) {
+                    this.shards[shard].enqueue(new ShardTask<>(batch, indexes, shardStart[shard], shardStart[shard + 1], completion));
+                }
+            }
+        } finally {
+            this.closeLock.readLock().unlock();
+        }
+
+        return completion.future;
+    }
+
+    // Single operation helpers, each one a batch of its own
+    public V get(K key) {
+        return this.submit(new Batch<K, V>().get(key)).join().get(0);
+    }
+
+    public V put(K key, V value) {
+        return this.submit(new Batch<K, V>().put(key, value)).join().get(0);
+    }
+
+    public V remove(K key) {
+        return this.submit(new Batch<K, V>().remove(key)).join().get(0);
+    }
+
+    // Sum of the sizes the shards published after their last task
+    public int size() {
+        int size = 0;
+        for (Shard<K, V> shard : this.shards) {
+            size += shard.size;
+        }
+
+        return size;
+    }
+
+    public int shardCount() {
+        return this.shards.length;
+    }
+
+    // Lets the workers finish everything already submitted, then stops them. Called from a worker,
+    // say in a callback on one of the futures, it does not wait for that worker, which stops once
+    // the callback returns. An interrupt ends the wait early and stays set.
+    @Override
+    public void close() {
+        this.closeLock.writeLock().lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+
+            this.closed = true;
+        } finally {
+            this.closeLock.writeLock().unlock();
+        }
+
+        for (Shard<K, V> shard : this.shards) {
+            shard.running = false;
+            LockSupport.unpark(shard.worker);
+        }
+
+        try {
+            for (Shard<K, V> shard : this.shards) {
+                if (shard.worker != Thread.currentThread()) {
+                    shard.worker.join();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // The high bits pick the shard, the shard's own table works with the low bits.
+    private int shardOf(Object key) {
+        int hash = HashSpreader.MURMUR3.spread(key.hashCode());
+        return (int) (((hash & 0xFFFFFFFFL) * this.shards.length) >>> 32);
+    }
+
+    // The constructor asks for the workers in shard order, so the counter is the shard index.
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger shard = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, "sharded-hash-table-worker-" + shard.getAndIncrement());
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+
+    private static class Shard<K, V> implements Runnable {
+        private final HashTable<K, V> table = new HashTable<>();
+        private final MpscQueue<ShardTask<K, V>> queue = new MpscQueue<>();
+        private Thread worker;
+        private volatile boolean parked;
+        private volatile boolean running = true;
+        private volatile int size;
+
+        void enqueue(ShardTask<K, V> task) {
+            this.queue.offer(task);
+
+            // The worker raises the flag before its last look at the queue, so either it sees the
+            // task or this sees the flag.
+            if (this.parked) {
+                LockSupport.unpark(this.worker);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                ShardTask<K, V> task = this.queue.poll();
+
+                if (task == null) {
+                    // close() only stops the workers once no submit can queue anything anymore.
+                    if (!this.running) {
+                        return;
+                    }
+
+                    this.parked = true;
+                    task = this.queue.poll();
+                    if (task == null && this.running) {
+                        LockSupport.park(this);
+                    }
+                    this.parked = false;
+
+                    if (task == null) {
+                        continue;
+                    }
+                }
+
+                task.run(this.table);
+                this.size = this.table.size();
+            }
+        }
+    }
+
+    private static class ShardTask<K, V> {
+        private final Batch<K, V> batch;
+        private final int[] indexes;
+        private final int from;
+        private final int to;
+        private final Completion<V> completion;
+
+        ShardTask(Batch<K, V> batch, int[] indexes, int from, int to, Completion<V> completion) {
+            this.batch = batch;
+            this.indexes = indexes;
+            this.from = from;
+            this.to = to;
+            this.completion = completion;
+        }
+
+        @SuppressWarnings("unchecked")
+        void run(HashTable<K, V> table) {
+            try {
+                for (int i = this.from; i < this.to; i++) {
+                    int index = this.indexes[i];
+                    K key = (K) this.batch.keys[index];
+                    KeyValue<K, V> element = table.find(key);
+
+                    if (element != null) {
+                        this.completion.results[index] = element.getValue();
+                    }
+
+                    if (this.batch.operations[index] == PUT) {
+                        V value = (V) this.batch.values[index];
+                        if (element != null) {
+                            element.setValue(value);
+                        } else {
+                            table.add(key, value);
+                        }
+                    } else if (this.batch.operations[index] == REMOVE && element != null) {
+                        table.remove(key);
+                    }
+                }
+            } catch (Throwable e) {
+                // Errors too, say from a key's equals: a dead worker would leave every later future
+                // on its shard hanging, so the batch fails and the worker carries on.
+                this.completion.fail(e);
+            }
+
+            this.completion.partDone();
+        }
+    }
+
+    private static class Completion<V> {
+        private final Object[] results;
+        private final AtomicInteger pendingParts;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final CompletableFuture<List<V>> future = new CompletableFuture<>();
+
+        Completion(int operations, int parts) {
+            this.results = new Object[operations];
+            this.pendingParts = new AtomicInteger(parts);
+        }
+
+        void fail(Throwable e) {
+            this.failure.compareAndSet(null, e);
+        }
+
+        // The last part to finish publishes every part's results, or the first failure. Until then
+        // some worker may still read the batch, so the caller must not get it back any earlier.
+        @SuppressWarnings("unchecked")
+        void partDone() {
+            if (this.pendingParts.decrementAndGet() == 0) {
+                Throwable failure = this.failure.get();
+
+                if (failure != null) {
+                    this.future.completeExceptionally(failure);
+                } else {
+                    this.future.complete((List<V>) Arrays.asList(this.results));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package implementations;
+
+// AVL tree ordered by hash, then by the keys' natural order when they are Comparable.
+// Keys that share a hash and cannot be ordered tie; lookups search both sides of a tie.
+class TreeBucket<K, V> implements Bucket<K, V> {
+    private TreeNode<K, V> root;
+    private TreeNode<K, V> head;
+    private TreeNode<K, V> tail;
+    private TreeNode<K, V> removed;
+    private int size;
+
+    TreeBucket(Bucket<K, V> source) {
+        for (Node<K, V> node = source.first(); node != null; node = node.next) {
+            this.insert(node.hash, node.entry);
+        }
+    }
+
+    private static class TreeNode<K, V> extends Node<K, V> {
+        TreeNode<K, V> left;
+        TreeNode<K, V> right;
+        TreeNode<K, V> previous;
+        int height = 1;
+
+        TreeNode(int hash, KeyValue<K, V> entry) {
+            super(hash, entry);
+        }
+    }
+
+    @Override
+    public Node<K, V> first() {
+        return this.head;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    public int height() {
+        return height(this.root);
+    }
+
+    @Override
+    public KeyValue<K, V> find(int hash, K key) {
+        TreeNode<K, V> node = this.find(this.root, hash, key);
+        return node == null ? null : node.entry;
+    }
+
+    @Override
+    public void insert(int hash, KeyValue<K, V> entry) {
+        TreeNode<K, V> node = new TreeNode<>(hash, entry);
+
+        if (this.head == null) {
+            this.head = node;
+        } else {
+            this.tail.next = node;
+            node.previous = this.tail;
+        }
+
+        this.tail = node;
+        this.root = this.insert(this.root, node);
+        this.size++;
+    }
+
+    @Override
+    public boolean remove(int hash, K key) {
+        this.removed = null;
+        this.root = this.delete(this.root, hash, key);
+
+        if (this.removed == null) {
+            return false;
+        }
+
+        TreeNode<K, V> node = this.removed;
+        if (node.previous == null) {
+            this.head = (TreeNode<K, V>) node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+
+        if (node.next == null) {
+            this.tail = node.previous;
+        } else {
+            ((TreeNode<K, V>) node.next).previous = node.previous;
+        }
+
+        this.removed = null;
+        this.size--;
+        return true;
+    }
+
+    private TreeNode<K, V> find(TreeNode<K, V> node, int hash, K key) {
+        while (node != null) {
+            int compare = compare(hash, key, node);
+
+            if (compare < 0) {
+                node = node.left;
+            } else if (compare > 0) {
+                node = node.right;
+            } else {
+                if (node.entry.getKey().equals(key)) {
+                    return node;
+                }
+
+                TreeNode<K, V> found = this.find(node.left, hash, key);
+                if (found != null) {
+                    return found;
+                }
+
+                node = node.right;
+            }
+        }
+
+        return null;
+    }
+
+    private TreeNode<K, V> insert(TreeNode<K, V> node, TreeNode<K, V> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+
+        if (compare(newNode.hash, newNode.entry.getKey(), node) < 0) {
+            node.left = this.insert(node.left, newNode);
+        } else {
+            node.right = this.insert(node.right, newNode);
+        }
+
+        return this.balance(node);
+    }
+
+    private TreeNode<K, V> delete(TreeNode<K, V> node, int hash, K key) {
+        if (node == null) {
+            return null;
+        }
+
+        int compare = compare(hash, key, node);
+
+        if (compare < 0) {
+            node.left = this.delete(node.left, hash, key);
+        } else if (compare > 0) {
+            node.right = this.delete(node.right, hash, key);
+        } else if (node.entry.getKey().equals(key)) {
+            this.removed = node;
+
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+
+            TreeNode<K, V> min = this.getMin(node.right);
+            min.right = this.deleteMin(node.right);
+            min.left = node.left;
+            node = min;
+        } else {
+            node.left = this.delete(node.left, hash, key);
+            if (this.removed == null) {
+                node.right = this.delete(node.right, hash, key);
+            }
+        }
+
+        return this.balance(node);
+    }
+
+    private TreeNode<K, V> getMin(TreeNode<K, V> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+
+        return node;
+    }
+
+    private TreeNode<K, V> deleteMin(TreeNode<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+
+        node.left = this.deleteMin(node.left);
+        return this.balance(node);
+    }
+
+    private TreeNode<K, V> balance(TreeNode<K, V> node) {
+        this.updateHeight(node);
+        int balance = height(node.left) - height(node.right);
+
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = this.rotateLeft(node.left);
+            }
+
+            node = this.rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = this.rotateRight(node.right);
+            }
+
+            node = this.rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    private TreeNode<K, V> rotateLeft(TreeNode<K, V> node) {
+        TreeNode<K, V> right = node.right;
+        node.right = right.left;
+        right.left = node;
+
+        this.updateHeight(node);
+        this.updateHeight(right);
+
+        return right;
+    }
+
+    private TreeNode<K, V> rotateRight(TreeNode<K, V> node) {
+        TreeNode<K, V> left = node.left;
+        node.left = left.right;
+        left.right = node;
+
+        this.updateHeight(node);
+        this.updateHeight(left);
+
+        return left;
+    }
+
+    private void updateHeight(TreeNode<K, V> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+    }
+
+    private static int height(TreeNode<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(int hash, Object key, Node<?, ?> node) {
+        int compare = Integer.compare(hash, node.hash);
+        if (compare != 0) {
+            return compare;
+        }
+
+        Object other = node.entry.getKey();
+        if (key instanceof Comparable && key.getClass() == other.getClass()) {
+            return ((Comparable<Object>) key).compareTo(other);
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,70 @@
+package benchmark;
+
+import implementations.HashTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx8G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class BloomBenchmarkTests {
+
+    @Param({"1000000", "10000000"})
+    private int n;
+
+    // 0 runs the table without a filter
+    @Param({"0", "0.01", "0.001"})
+    private double falsePositiveRate;
+
+    private HashTable<Integer, Integer> hashTable;
+    private Integer[] misses;
+    private int position;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.hashTable = new HashTable<>();
+        this.misses = new Integer[n];
+
+        for (int i = 0; i < n; i++) {
+            this.hashTable.add(i, i);
+            this.misses[i] = -i - 1;
+        }
+
+        if (falsePositiveRate > 0) {
+            this.hashTable.enableBloomFilter(falsePositiveRate);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        long rejections = this.hashTable.bloomFilterRejections();
+        long falsePositives = this.hashTable.bloomFilterFalsePositives();
+
+        if (rejections + falsePositives > 0) {
+            System.out.println();
+            System.out.printf("observed false positive rate: %.4f%n", (double) falsePositives / (rejections + falsePositives));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BloomBenchmarkTests.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public boolean testMiss() {
+        this.position = (this.position + 7919) % n;
+        return this.hashTable.containsKey(this.misses[this.position]);
+    }
+}
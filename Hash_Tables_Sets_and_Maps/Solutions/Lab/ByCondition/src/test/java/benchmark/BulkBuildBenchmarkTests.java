@@ -0,0 +1,59 @@
+package benchmark;
+
+import implementations.HashTable;
+import implementations.KeyValue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx8G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class BulkBuildBenchmarkTests {
+
+    @Param({"1000000", "10000000"})
+    private int n;
+
+    private KeyValue<Integer, Integer>[] elements;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        this.elements = new KeyValue[n];
+
+        for (int i = 0; i < n; i++) {
+            this.elements[i] = new KeyValue<>(i, i);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BulkBuildBenchmarkTests.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public HashTable<Integer, Integer> testRepeatedAdd() {
+        HashTable<Integer, Integer> hashTable = new HashTable<>();
+
+        for (KeyValue<Integer, Integer> element : this.elements) {
+            hashTable.add(element.getKey(), element.getValue());
+        }
+
+        return hashTable;
+    }
+
+    @Benchmark
+    public HashTable<Integer, Integer> testBulkBuild() {
+        return HashTable.bulkBuild(this.elements, HashTable.BulkMode.ADD);
+    }
+}
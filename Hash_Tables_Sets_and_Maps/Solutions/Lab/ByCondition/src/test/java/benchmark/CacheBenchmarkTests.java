@@ -0,0 +1,74 @@
+package benchmark;
+
+import implementations.BoundedCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Replays a skewed key trace: a few keys are asked for all the time, most of them rarely.
+// NOTE: Run with -prof gc to check that hits allocate nothing (gc.alloc.rate.norm).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class CacheBenchmarkTests {
+    private static final int KEYS = 1_000_000;
+    private static final int TRACE = 1 << 22;
+
+    @Param({"10000", "100000"})
+    private int maximumSize;
+
+    @Param({"LRU", "W_TINY_LFU"})
+    private BoundedCache.Policy policy;
+
+    private BoundedCache<Integer, Integer> cache;
+    private Integer[] trace;
+    private Integer hotKey;
+    private int position;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        this.cache = new BoundedCache<>(maximumSize, policy);
+        this.trace = new Integer[TRACE];
+
+        for (int i = 0; i < TRACE; i++) {
+            this.trace[i] = (int) (KEYS * Math.pow(random.nextDouble(), 4));
+        }
+
+        this.hotKey = 0;
+        this.cache.put(this.hotKey, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println();
+        System.out.printf("hit rate: %.4f, evictions: %,d%n", this.cache.hitRate(), this.cache.evictionCount());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(CacheBenchmarkTests.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public Object testTrace() {
+        this.position = (this.position + 1) & (TRACE - 1);
+        return this.cache.get(this.trace[this.position], key -> key);
+    }
+
+    @Benchmark
+    public Object testHit() {
+        return this.cache.get(this.hotKey);
+    }
+}
@@ -0,0 +1,88 @@
+package benchmark;
+
+import implementations.HashTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class CollisionBenchmarkTests {
+    private static final int LOOKUPS = 1 << 10;
+
+    // Number of "Aa"/"BB" blocks per key -> 2^blocks keys that all share one hashCode
+    @Param({"8", "11", "14", "17"})
+    private int blocks;
+
+    private HashTable<String, Integer> hashTable;
+    private String[] hitKeys;
+    private String[] missKeys;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> keys = collidingStrings(this.blocks);
+
+        this.hashTable = new HashTable<>();
+        for (int i = 0; i < keys.size(); i++) {
+            this.hashTable.add(keys.get(i), i);
+        }
+
+        Random random = new Random(42);
+        this.hitKeys = new String[LOOKUPS];
+        this.missKeys = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            // Copies, so equals() has to compare the characters instead of the references
+            String key = keys.get(random.nextInt(keys.size()));
+            this.hitKeys[i] = new String(key);
+            // "C#" hashes like "Aa" and "BB", so the miss lands in the same tree
+            this.missKeys[i] = key.substring(2) + "C#";
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(CollisionBenchmarkTests.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public Integer testGetHitWithCollidingKeys() {
+        return this.hashTable.get(this.hitKeys[this.cursor++ & (LOOKUPS - 1)]);
+    }
+
+    @Benchmark
+    public boolean testContainsMissWithCollidingKeys() {
+        return this.hashTable.containsKey(this.missKeys[this.cursor++ & (LOOKUPS - 1)]);
+    }
+
+    private static List<String> collidingStrings(int blocks) {
+        List<String> strings = new ArrayList<>();
+        strings.add("");
+
+        for (int i = 0; i < blocks; i++) {
+            List<String> longer = new ArrayList<>(2 * strings.size());
+            for (String string : strings) {
+                longer.add(string + "Aa");
+                longer.add(string + "BB");
+            }
+            strings = longer;
+        }
+
+        return strings;
+    }
+}
@@ -0,0 +1,86 @@
+package benchmark;
+
+import implementations.ConcurrentHashTable;
+import implementations.HashTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ConcurrentBenchmarkTests {
+
+    @Param({"1000000"})
+    private int n;
+
+    // Share of the operations that are lookups, the rest are addOrReplace calls
+    @Param({"100", "90", "50"})
+    private int readPercent;
+
+    private ConcurrentHashTable<Integer, Integer> concurrentHashTable;
+    private HashTable<Integer, Integer> synchronizedHashTable;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.concurrentHashTable = new ConcurrentHashTable<>();
+        this.synchronizedHashTable = new HashTable<>();
+
+        for (int i = 0; i < n; i++) {
+            this.concurrentHashTable.add(i, i);
+            this.synchronizedHashTable.add(i, i);
+        }
+    }
+
+    // Runs every benchmark once per thread count, from a single thread up to all cores.
+    public static void main(String[] args) throws RunnerException {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int threads = 1; ; threads = Math.min(threads * 2, cores)) {
+            Options opt = new OptionsBuilder()
+                    .include(ConcurrentBenchmarkTests.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+
+            new Runner(opt).run();
+
+            if (threads == cores) {
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public Object testMixedInConcurrentHashTable() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(2 * n);
+
+        if (random.nextInt(100) < readPercent) {
+            return this.concurrentHashTable.find(key);
+        }
+
+        return this.concurrentHashTable.addOrReplace(key, key);
+    }
+
+    @Benchmark
+    public Object testMixedInSynchronizedHashTable() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(2 * n);
+
+        synchronized (this.synchronizedHashTable) {
+            if (random.nextInt(100) < readPercent) {
+                return this.synchronizedHashTable.find(key);
+            }
+
+            return this.synchronizedHashTable.addOrReplace(key, key);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package benchmark;
+
+import implementations.FrozenHashTable;
+import implementations.HashTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class FrozenBenchmarkTests {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int n;
+
+    private HashTable<Integer, Integer> hashTable;
+    private FrozenHashTable<Integer, Integer> frozenHashTable;
+    private Integer[] hits;
+    private Integer[] misses;
+    private int position;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.hashTable = new HashTable<>();
+        this.hits = new Integer[n];
+        this.misses = new Integer[n];
+
+        for (int i = 0; i < n; i++) {
+            this.hashTable.add(i, i);
+            this.hits[i] = i;
+            this.misses[i] = -i - 1;
+        }
+
+        this.frozenHashTable = this.hashTable.freeze();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(FrozenBenchmarkTests.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    // A large odd stride, so consecutive lookups do not hit neighbouring cache lines
+    private int next() {
+        this.position = (this.position + 7919) % n;
+        return this.position;
+    }
+
+    @Benchmark
+    public Object testHitInHashTable() {
+        return this.hashTable.get(this.hits[this.next()]);
+    }
+
+    @Benchmark
+    public Object testHitInFrozenHashTable() {
+        return this.frozenHashTable.get(this.hits[this.next()]);
+    }
+
+    @Benchmark
+    public boolean testMissInHashTable() {
+        return this.hashTable.containsKey(this.misses[this.next()]);
+    }
+
+    @Benchmark
+    public boolean testMissInFrozenHashTable() {
+        return this.frozenHashTable.containsKey(this.misses[this.next()]);
+    }
+}
@@ -0,0 +1,32 @@
+package benchmark;
+
+import implementations.FrozenHashTable;
+import implementations.HashTable;
+import org.openjdk.jol.info.GraphLayout;
+
+// Prints the bytes each table spends per entry on top of the keys and values it holds.
+// NOTE: Walking a million-entry graph needs a few gigabytes, and JOL has to read JDK internals:
+// -Xmx4G --add-opens java.base/java.util=ALL-UNNAMED --add-opens java.base/java.lang=ALL-UNNAMED
+public class FrozenFootprint {
+    private static final int N = 1_000_000;
+
+    public static void main(String[] args) {
+        Integer[] keys = new Integer[N];
+        HashTable<Integer, Integer> hashTable = new HashTable<>();
+        for (int i = 0; i < N; i++) {
+            keys[i] = i;
+            hashTable.add(keys[i], keys[i]);
+        }
+
+        FrozenHashTable<Integer, Integer> frozenHashTable = hashTable.freeze();
+
+        long keysSize = GraphLayout.parseInstance((Object) keys).totalSize();
+
+        print("HashTable<Integer, Integer>", GraphLayout.parseInstance(new Object[]{hashTable, keys}).totalSize() - keysSize);
+        print("FrozenHashTable<Integer, Integer>", GraphLayout.parseInstance(new Object[]{frozenHashTable, keys}).totalSize() - keysSize);
+    }
+
+    private static void print(String name, long bytes) {
+        System.out.printf("%-36s %,12d bytes  %6.1f bytes/entry%n", name, bytes, (double) bytes / N);
+    }
+}
@@ -0,0 +1,70 @@
+package benchmark;
+
+import implementations.HashTable;
+import implementations.KeyValue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class IterationBenchmarkTests {
+
+    @Param({"100000", "1000000", "10000000"})
+    private int n;
+
+    private HashTable<Integer, Integer> hashTable;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.hashTable = new HashTable<>();
+
+        for (int i = 0; i < n; i++) {
+            this.hashTable.add(i, i);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(IterationBenchmarkTests.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public long testIterateEntries() {
+        long sum = 0;
+        for (KeyValue<Integer, Integer> element : this.hashTable) {
+            sum += element.getValue();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long testIterateValuesView() {
+        long sum = 0;
+        for (Integer value : this.hashTable.values()) {
+            sum += value;
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long testParallelStreamSum() {
+        return this.hashTable.parallelStream()
+                .mapToLong(KeyValue::getValue)
+                .sum();
+    }
+}
@@ -0,0 +1,86 @@
+package benchmark;
+
+import implementations.HashTable;
+import implementations.RobinHoodHashTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+// NOTE: The chained table needs roughly 70 bytes per entry, so the 10^7 run
+// requires a few gigabytes of heap -> adjust -Xmx if java.lang.OutOfMemoryError occurs
+@Fork(value = 2, jvmArgs = {"-Xms4G", "-Xmx8G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class RobinHoodBenchmarkTests {
+    private static final int LOOKUPS = 1 << 12;
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    private int n;
+
+    private HashTable<Integer, Integer> chained;
+    private RobinHoodHashTable<Integer, Integer> robinHood;
+
+    private Integer[] hitKeys;
+    private Integer[] missKeys;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.chained = new HashTable<>();
+        this.robinHood = new RobinHoodHashTable<>();
+
+        for (int i = 0; i < n; i++) {
+            this.chained.add(i, i);
+            this.robinHood.add(i, i);
+        }
+
+        Random random = new Random(42);
+        this.hitKeys = new Integer[LOOKUPS];
+        this.missKeys = new Integer[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.hitKeys[i] = random.nextInt(n);
+            this.missKeys[i] = n + random.nextInt(n);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(RobinHoodBenchmarkTests.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public Integer testGetHitInChainedHashTable() {
+        return this.chained.get(this.nextKey(this.hitKeys));
+    }
+
+    @Benchmark
+    public Integer testGetHitInRobinHoodHashTable() {
+        return this.robinHood.get(this.nextKey(this.hitKeys));
+    }
+
+    @Benchmark
+    public boolean testContainsMissInChainedHashTable() {
+        return this.chained.containsKey(this.nextKey(this.missKeys));
+    }
+
+    @Benchmark
+    public boolean testContainsMissInRobinHoodHashTable() {
+        return this.robinHood.containsKey(this.nextKey(this.missKeys));
+    }
+
+    private Integer nextKey(Integer[] keys) {
+        return keys[this.cursor++ & (LOOKUPS - 1)];
+    }
+}
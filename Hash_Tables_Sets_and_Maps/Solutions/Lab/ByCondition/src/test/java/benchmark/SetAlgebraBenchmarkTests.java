@@ -0,0 +1,91 @@
+package benchmark;
+
+import implementations.HashSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// The large set holds n elements, the small one n / 10, half of which are also in the large one.
+// NOTE: The four sets need a few gigabytes of heap at n = 10^7 and about 40 GB at n = 10^8
+// -> uncomment that size only together with a matching -Xmx.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx8G"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class SetAlgebraBenchmarkTests {
+
+    @Param({"1000000", "10000000"/*, "100000000"*/})
+    private int n;
+
+    private HashSet<Integer> large;
+    private HashSet<Integer> small;
+    private java.util.HashSet<Integer> javaLarge;
+    private java.util.HashSet<Integer> javaSmall;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.large = new HashSet<>();
+        this.small = new HashSet<>();
+        this.javaLarge = new java.util.HashSet<>();
+        this.javaSmall = new java.util.HashSet<>();
+
+        for (int i = 0; i < n; i++) {
+            this.large.add(i);
+            this.javaLarge.add(i);
+        }
+        for (int i = n - n / 20; i < n + n / 20; i++) {
+            this.small.add(i);
+            this.javaSmall.add(i);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(SetAlgebraBenchmarkTests.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public Object testIntersect() {
+        return this.large.intersect(this.small);
+    }
+
+    @Benchmark
+    public Object testParallelIntersect() {
+        return this.large.intersect(this.small, ForkJoinPool.commonPool());
+    }
+
+    // java.util.HashSet walks the set it is called on, here the large one
+    @Benchmark
+    public Object testJavaRetainAll() {
+        java.util.HashSet<Integer> result = new java.util.HashSet<>(this.javaLarge);
+        result.retainAll(this.javaSmall);
+        return result;
+    }
+
+    @Benchmark
+    public Object testUnion() {
+        return this.large.union(this.small);
+    }
+
+    @Benchmark
+    public Object testParallelUnion() {
+        return this.large.union(this.small, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public Object testJavaAddAll() {
+        java.util.HashSet<Integer> result = new java.util.HashSet<>(this.javaLarge);
+        result.addAll(this.javaSmall);
+        return result;
+    }
+}
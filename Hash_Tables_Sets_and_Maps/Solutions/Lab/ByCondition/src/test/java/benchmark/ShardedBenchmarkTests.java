@@ -0,0 +1,131 @@
+package benchmark;
+
+import implementations.HashTable;
+import implementations.ShardedHashTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Every benchmark call runs one batch of mixed lookups and puts, so the scores are batches per time unit.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ShardedBenchmarkTests {
+
+    @Param({"1000000"})
+    private int n;
+
+    @Param({"64"})
+    private int batchSize;
+
+    // Share of the operations that are lookups, the rest are puts
+    @Param({"90"})
+    private int readPercent;
+
+    private ShardedHashTable<Integer, Integer> shardedHashTable;
+    private HashTable<Integer, Integer> lockedHashTable;
+    private ConcurrentHashMap<Integer, Integer> concurrentHashMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.shardedHashTable = new ShardedHashTable<>(Runtime.getRuntime().availableProcessors());
+        this.lockedHashTable = new HashTable<>();
+        this.concurrentHashMap = new ConcurrentHashMap<>();
+
+        ShardedHashTable.Batch<Integer, Integer> batch = new ShardedHashTable.Batch<>();
+        for (int i = 0; i < n; i++) {
+            batch.put(i, i);
+            this.lockedHashTable.add(i, i);
+            this.concurrentHashMap.put(i, i);
+        }
+        this.shardedHashTable.submit(batch).join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.shardedHashTable.close();
+    }
+
+    // Runs every benchmark once per thread count, from a single thread up to all cores.
+    public static void main(String[] args) throws RunnerException {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int threads = 1; ; threads = Math.min(threads * 2, cores)) {
+            Options opt = new OptionsBuilder()
+                    .include(ShardedBenchmarkTests.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+
+            new Runner(opt).run();
+
+            if (threads == cores) {
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public Object testBatchInShardedHashTable() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ShardedHashTable.Batch<Integer, Integer> batch = new ShardedHashTable.Batch<>();
+
+        for (int i = 0; i < batchSize; i++) {
+            Integer key = random.nextInt(2 * n);
+
+            if (random.nextInt(100) < readPercent) {
+                batch.get(key);
+            } else {
+                batch.put(key, key);
+            }
+        }
+
+        return this.shardedHashTable.submit(batch).join();
+    }
+
+    @Benchmark
+    public Object testBatchInLockedHashTable() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Object last = null;
+
+        for (int i = 0; i < batchSize; i++) {
+            Integer key = random.nextInt(2 * n);
+
+            synchronized (this.lockedHashTable) {
+                if (random.nextInt(100) < readPercent) {
+                    last = this.lockedHashTable.find(key);
+                } else {
+                    last = this.lockedHashTable.addOrReplace(key, key);
+                }
+            }
+        }
+
+        return last;
+    }
+
+    @Benchmark
+    public Object testBatchInConcurrentHashMap() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Object last = null;
+
+        for (int i = 0; i < batchSize; i++) {
+            Integer key = random.nextInt(2 * n);
+
+            if (random.nextInt(100) < readPercent) {
+                last = this.concurrentHashMap.get(key);
+            } else {
+                last = this.concurrentHashMap.put(key, key);
+            }
+        }
+
+        return last;
+    }
+}
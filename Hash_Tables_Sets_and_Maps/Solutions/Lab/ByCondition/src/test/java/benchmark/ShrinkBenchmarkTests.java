@@ -0,0 +1,71 @@
+package benchmark;
+
+import implementations.HashTable;
+import implementations.KeyValue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.concurrent.TimeUnit;
+
+// Iterates what is left of a table after a 10M insert / 9.9M delete cycle.
+// A table created with the peak capacity never shrinks below it, so it stands in for the old behaviour.
+// NOTE: The footprint printed in the setup comes from JOL, which has to read JDK internals.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx8G",
+        "--add-opens", "java.base/java.util=ALL-UNNAMED", "--add-opens", "java.base/java.lang=ALL-UNNAMED"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ShrinkBenchmarkTests {
+    private static final int INSERTS = 10_000_000;
+    private static final int DELETES = 9_900_000;
+
+    @Param({"shrinking", "trimmed", "peakCapacity"})
+    private String table;
+
+    private HashTable<Integer, Integer> hashTable;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.hashTable = this.table.equals("peakCapacity")
+                ? new HashTable<>(1 << 24)
+                : new HashTable<>();
+
+        for (int i = 0; i < INSERTS; i++) {
+            this.hashTable.add(i, i);
+        }
+        for (int i = 0; i < DELETES; i++) {
+            this.hashTable.remove(i);
+        }
+        if (this.table.equals("trimmed")) {
+            this.hashTable.trimToSize();
+        }
+
+        System.out.println();
+        System.out.printf("capacity: %,d, footprint: %,d bytes%n",
+                this.hashTable.capacity(), GraphLayout.parseInstance(this.hashTable).totalSize());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ShrinkBenchmarkTests.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public long testIterate() {
+        long sum = 0;
+        for (KeyValue<Integer, Integer> element : this.hashTable) {
+            sum += element.getValue();
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,64 @@
+package benchmark;
+
+import implementations.HashSpreader;
+import implementations.HashTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class SpreadingBenchmarkTests {
+
+    @Param({"1000000"})
+    private int n;
+
+    @Param({"IDENTITY", "FIBONACCI", "MURMUR3"})
+    private String spreader;
+
+    // Sequential ids and ids that only differ in their high bits
+    @Param({"1", "65536"})
+    private int stride;
+
+    private HashTable<Integer, Integer> hashTable;
+    private Integer[] keys;
+    private int position;
+
+    @Setup(Level.Trial)
+    public void setup() throws ReflectiveOperationException {
+        HashSpreader hashSpreader = (HashSpreader) HashSpreader.class.getField(spreader).get(null);
+        this.hashTable = new HashTable<>(16, HashTable.ResizeMode.EAGER, hashSpreader);
+        this.keys = new Integer[n];
+
+        for (int i = 0; i < n; i++) {
+            this.keys[i] = i * stride;
+            this.hashTable.add(this.keys[i], i);
+        }
+
+        System.out.println();
+        System.out.println("max probe depth: " + this.hashTable.maxProbeDepth()
+                + ", load factor: " + this.hashTable.loadFactor());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(SpreadingBenchmarkTests.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public Object testFind() {
+        this.position = (this.position + 7919) % n;
+        return this.hashTable.find(this.keys[this.position]);
+    }
+}
@@ -0,0 +1,136 @@
+package implementations;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BoundedCacheTests {
+
+    @Test
+    public void Lru_ShouldEvictLeastRecentlyUsed() {
+        // Arrange
+        BoundedCache<String, Integer> cache = new BoundedCache<>(2, BoundedCache.Policy.LRU);
+        cache.put("Peter", 5);
+        cache.put("Maria", 6);
+
+        // Act
+        cache.get("Peter");
+        cache.put("George", 7);
+
+        // Assert
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.evictionCount());
+        Assert.assertEquals(Integer.valueOf(5), cache.get("Peter"));
+        Assert.assertEquals(Integer.valueOf(7), cache.get("George"));
+        Assert.assertNull(cache.get("Maria"));
+    }
+
+    @Test
+    public void Put_ExistingKey_ShouldReplaceValue() {
+        // Arrange
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+
+        // Act
+        cache.put("Peter", 5);
+        cache.put("Peter", 50);
+
+        // Assert
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(Integer.valueOf(50), cache.get("Peter"));
+    }
+
+    @Test
+    public void Metrics_ShouldCountHitsMissesAndLoads() {
+        // Arrange
+        BoundedCache<Integer, String> cache = new BoundedCache<>(100, BoundedCache.Policy.LRU);
+
+        // Act
+        for (int round = 0; round < 4; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.get(i, String::valueOf);
+            }
+        }
+
+        // Assert
+        Assert.assertEquals(150, cache.hitCount());
+        Assert.assertEquals(50, cache.missCount());
+        Assert.assertEquals(0.75, cache.hitRate(), 1e-9);
+        Assert.assertEquals(50, cache.loadCount());
+        Assert.assertTrue(cache.totalLoadTime() > 0);
+        Assert.assertEquals(0, cache.evictionCount());
+    }
+
+    @Test
+    public void Remove_ShouldWorkCorrectly() {
+        // Arrange
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+            cache.get(i);
+        }
+
+        // Act
+        boolean removed = cache.remove(10);
+        boolean removedAgain = cache.remove(10);
+
+        // Assert
+        Assert.assertTrue(removed);
+        Assert.assertFalse(removedAgain);
+        Assert.assertEquals(999, cache.size());
+        Assert.assertFalse(cache.containsKey(10));
+    }
+
+    @Test
+    public void WTinyLfu_ShouldKeepHotEntriesThroughScan() {
+        // Arrange
+        BoundedCache<Integer, Integer> lru = new BoundedCache<>(1000, BoundedCache.Policy.LRU);
+        BoundedCache<Integer, Integer> tinyLfu = new BoundedCache<>(1000, BoundedCache.Policy.W_TINY_LFU);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 500; i++) {
+                lru.get(i, key -> key);
+                tinyLfu.get(i, key -> key);
+            }
+        }
+
+        // Act
+        // A one-off scan over many more keys than the cache holds
+        for (int i = 1000; i < 100000; i++) {
+            lru.get(i, key -> key);
+            tinyLfu.get(i, key -> key);
+        }
+
+        // Assert
+        int lruHot = 0;
+        int tinyLfuHot = 0;
+        for (int i = 0; i < 500; i++) {
+            lruHot += lru.containsKey(i) ? 1 : 0;
+            tinyLfuHot += tinyLfu.containsKey(i) ? 1 : 0;
+        }
+
+        Assert.assertEquals(1000, lru.size());
+        Assert.assertEquals(1000, tinyLfu.size());
+        Assert.assertEquals(0, lruHot);
+        Assert.assertTrue(tinyLfuHot > 450);
+    }
+
+    @Test
+    public void Size_ShouldNeverExceedMaximum() {
+        for (BoundedCache.Policy policy : BoundedCache.Policy.values()) {
+            for (int maximumSize : new int[]{1, 2, 7, 300}) {
+                BoundedCache<Integer, Integer> cache = new BoundedCache<>(maximumSize, policy);
+
+                for (int i = 0; i < 5000; i++) {
+                    cache.put(i % 700, i);
+                    cache.get((i * 31) % 700);
+                    Assert.assertTrue(cache.size() <= maximumSize);
+                }
+
+                Assert.assertEquals(maximumSize, cache.size());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Constructor_NonPositiveSize_ShouldThrowException() {
+        new BoundedCache<String, String>(0);
+    }
+}
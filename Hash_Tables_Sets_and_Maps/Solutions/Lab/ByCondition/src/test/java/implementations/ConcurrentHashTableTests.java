@@ -0,0 +1,143 @@
+package implementations;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrentHashTableTests {
+
+    @Test
+    public void Add_Get_Find_ShouldWorkCorrectly() {
+        // Arrange
+        ConcurrentHashTable<String, Integer> hashTable = new ConcurrentHashTable<>();
+
+        // Act
+        hashTable.add("Peter", 5);
+        hashTable.add("Maria", 6);
+
+        // Assert
+        Assert.assertEquals(2, hashTable.size());
+        Assert.assertEquals(Integer.valueOf(5), hashTable.get("Peter"));
+        Assert.assertEquals(new KeyValue<>("Maria", 6), hashTable.find("Maria"));
+        Assert.assertNull(hashTable.find("George"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Add_Duplicates_ShouldThrowException() {
+        ConcurrentHashTable<String, String> hashTable = new ConcurrentHashTable<>();
+        hashTable.add("peter", "1");
+        hashTable.add("peter", "2");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Get_NonExistingElement_ShouldThrowException() {
+        ConcurrentHashTable<Integer, String> hashTable = new ConcurrentHashTable<>();
+        hashTable.get(12345);
+    }
+
+    @Test
+    public void AddOrReplace_Remove_ShouldWorkCorrectly() {
+        // Arrange
+        ConcurrentHashTable<Integer, Integer> hashTable = new ConcurrentHashTable<>();
+        for (int i = 0; i < 1000; i++) {
+            hashTable.add(i, i);
+        }
+
+        // Act
+        boolean replaced = hashTable.addOrReplace(500, -1);
+        boolean removed = hashTable.remove(10);
+        boolean removedAgain = hashTable.remove(10);
+
+        // Assert
+        Assert.assertTrue(replaced);
+        Assert.assertTrue(removed);
+        Assert.assertFalse(removedAgain);
+        Assert.assertEquals(999, hashTable.size());
+        Assert.assertEquals(Integer.valueOf(-1), hashTable.get(500));
+        Assert.assertTrue(hashTable.capacity() >= 1024);
+    }
+
+    @Test
+    public void Iterator_Clear_ShouldWorkCorrectly() {
+        // Arrange
+        ConcurrentHashTable<String, Integer> hashTable = new ConcurrentHashTable<>();
+        for (int i = 0; i < 500; i++) {
+            hashTable.add("key" + i, i);
+        }
+
+        // Act
+        Set<String> keys = new HashSet<>();
+        for (KeyValue<String, Integer> element : hashTable) {
+            keys.add(element.getKey());
+        }
+        hashTable.clear();
+
+        // Assert
+        Assert.assertEquals(500, keys.size());
+        Assert.assertEquals(0, hashTable.size());
+        Assert.assertFalse(hashTable.iterator().hasNext());
+    }
+
+    @Test
+    public void ConcurrentWriters_WithReaders_ShouldNotLoseElements() throws InterruptedException {
+        // Arrange
+        ConcurrentHashTable<Integer, Integer> hashTable = new ConcurrentHashTable<>();
+        int writers = 4;
+        int perWriter = 50000;
+        AtomicBoolean readerFailed = new AtomicBoolean();
+        List<Thread> threads = new ArrayList<>();
+
+        // Keys below 1000 are added up front, so readers must see them throughout the resizes.
+        for (int i = 0; i < 1000; i++) {
+            hashTable.add(-i - 1, i);
+        }
+
+        // Act
+        for (int w = 0; w < writers; w++) {
+            int offset = w * perWriter;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    hashTable.add(offset + i, i);
+                }
+                for (int i = 0; i < perWriter; i += 2) {
+                    hashTable.remove(offset + i);
+                }
+            }));
+        }
+        Thread reader = new Thread(() -> {
+            for (int round = 0; round < 200; round++) {
+                for (int i = 0; i < 1000; i++) {
+                    if (!hashTable.containsKey(-i - 1)) {
+                        readerFailed.set(true);
+                    }
+                }
+            }
+        });
+        threads.add(reader);
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        Assert.assertFalse(readerFailed.get());
+        Assert.assertEquals(1000 + writers * perWriter / 2, hashTable.size());
+        for (int i = 0; i < writers * perWriter; i++) {
+            Assert.assertEquals(i % 2 == 1, hashTable.containsKey(i));
+        }
+
+        int counter = 0;
+        for (KeyValue<Integer, Integer> ignored : hashTable) {
+            counter++;
+        }
+        Assert.assertEquals(hashTable.size(), counter);
+    }
+}
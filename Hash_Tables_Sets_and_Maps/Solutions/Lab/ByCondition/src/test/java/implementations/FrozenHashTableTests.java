@@ -0,0 +1,108 @@
+package implementations;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class FrozenHashTableTests {
+
+    @Test
+    public void Freeze_ShouldFindEveryKey() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>();
+        for (int i = 0; i < 100000; i++) {
+            hashTable.add(i, -i);
+        }
+
+        // Act
+        FrozenHashTable<Integer, Integer> frozen = hashTable.freeze();
+
+        // Assert
+        Assert.assertEquals(100000, frozen.size());
+        for (int i = 0; i < 100000; i++) {
+            Assert.assertEquals(Integer.valueOf(-i), frozen.get(i));
+        }
+        for (int i = 100000; i < 200000; i++) {
+            Assert.assertFalse(frozen.containsKey(i));
+        }
+        Assert.assertNull(frozen.find(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Get_NonExistingElement_ShouldThrowException() {
+        HashTable<String, String> hashTable = new HashTable<>();
+        hashTable.add("Peter", "1");
+
+        hashTable.freeze().get("Maria");
+    }
+
+    @Test
+    public void Freeze_EmptyTable_ShouldWorkCorrectly() {
+        FrozenHashTable<String, Integer> frozen = new HashTable<String, Integer>().freeze();
+
+        Assert.assertEquals(0, frozen.size());
+        Assert.assertFalse(frozen.containsKey("Peter"));
+        Assert.assertFalse(frozen.iterator().hasNext());
+    }
+
+    @Test
+    public void Freeze_ShouldNotSeeLaterChanges() {
+        // Arrange
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        hashTable.add("Peter", 5);
+        hashTable.add("Maria", 6);
+
+        // Act
+        FrozenHashTable<String, Integer> frozen = hashTable.freeze();
+        hashTable.addOrReplace("Peter", 50);
+        hashTable.remove("Maria");
+        hashTable.add("George", 7);
+
+        // Assert
+        Assert.assertEquals(2, frozen.size());
+        Assert.assertEquals(Integer.valueOf(5), frozen.get("Peter"));
+        Assert.assertEquals(new KeyValue<>("Maria", 6), frozen.find("Maria"));
+        Assert.assertFalse(frozen.containsKey("George"));
+    }
+
+    @Test
+    public void Freeze_KeysWithEqualHashCodes_ShouldAllBeFound() {
+        // Arrange
+        // "Aa" and "BB" share a hashCode, so every string built from them does too.
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        String[] blocks = {"Aa", "BB"};
+        for (int i = 0; i < 64; i++) {
+            StringBuilder key = new StringBuilder();
+            for (int bit = 0; bit < 6; bit++) {
+                key.append(blocks[(i >> bit) & 1]);
+            }
+            hashTable.add(key.toString(), i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            hashTable.add("key" + i, i);
+        }
+
+        // Act
+        FrozenHashTable<String, Integer> frozen = hashTable.freeze();
+
+        // Assert
+        Assert.assertEquals(1064, frozen.size());
+        for (KeyValue<String, Integer> element : hashTable) {
+            Assert.assertEquals(element.getValue(), frozen.get(element.getKey()));
+        }
+        Assert.assertFalse(frozen.containsKey("AaAaAaAaAaAaAa"));
+
+        Set<String> keys = new HashSet<>();
+        for (String key : frozen.keys()) {
+            keys.add(key);
+        }
+        int sum = 0;
+        for (Integer value : frozen.values()) {
+            sum += value;
+        }
+        Assert.assertEquals(1064, keys.size());
+        Assert.assertEquals(63 * 64 / 2 + 999 * 1000 / 2, sum);
+    }
+}
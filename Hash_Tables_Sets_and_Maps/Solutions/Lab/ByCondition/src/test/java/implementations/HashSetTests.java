@@ -0,0 +1,204 @@
+package implementations;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class HashSetTests {
+
+    @Test
+    public void Add_Remove_Contains_ShouldWorkCorrectly() {
+        // Arrange
+        HashSet<String> set = new HashSet<>();
+
+        // Act
+        boolean added = set.add("Peter");
+        boolean addedAgain = set.add("Peter");
+        set.add("Maria");
+        boolean removed = set.remove("Maria");
+
+        // Assert
+        Assert.assertTrue(added);
+        Assert.assertFalse(addedAgain);
+        Assert.assertTrue(removed);
+        Assert.assertEquals(1, set.size());
+        Assert.assertTrue(set.contains("Peter"));
+        Assert.assertFalse(set.contains("Maria"));
+    }
+
+    @Test
+    public void SetAlgebra_ShouldWorkCorrectly() {
+        // Arrange
+        HashSet<Integer> evens = range(0, 100, 2);
+        HashSet<Integer> small = range(90, 110, 1);
+
+        // Act
+        HashSet<Integer> union = evens.union(small);
+        HashSet<Integer> intersection = small.intersect(evens);
+        HashSet<Integer> difference = small.difference(evens);
+
+        // Assert
+        Assert.assertEquals(50 + 15, union.size());
+        Assert.assertEquals(5, intersection.size());
+        Assert.assertEquals(15, difference.size());
+        for (int i = 90; i < 110; i++) {
+            Assert.assertTrue(union.contains(i));
+            Assert.assertEquals(i < 100 && i % 2 == 0, intersection.contains(i));
+            Assert.assertEquals(i >= 100 || i % 2 == 1, difference.contains(i));
+        }
+
+        Assert.assertTrue(evens.containsAll(intersection));
+        Assert.assertFalse(evens.containsAll(small));
+        Assert.assertFalse(small.containsAll(evens));
+        Assert.assertTrue(union.containsAll(evens));
+    }
+
+    @Test
+    public void SetAlgebra_WithEmptySets_ShouldWorkCorrectly() {
+        // Arrange
+        HashSet<Integer> empty = new HashSet<>();
+        HashSet<Integer> numbers = range(0, 1000, 1);
+
+        // Act & Assert
+        Assert.assertEquals(1000, numbers.union(empty).size());
+        Assert.assertEquals(1000, empty.union(numbers).size());
+        Assert.assertTrue(empty.union(new HashSet<>()).isEmpty());
+        Assert.assertTrue(numbers.intersect(empty).isEmpty());
+        Assert.assertTrue(empty.intersect(numbers).isEmpty());
+        Assert.assertEquals(1000, numbers.difference(empty).size());
+        Assert.assertTrue(empty.difference(numbers).isEmpty());
+        Assert.assertTrue(numbers.containsAll(empty));
+        Assert.assertTrue(empty.containsAll(empty));
+        Assert.assertFalse(empty.containsAll(numbers));
+    }
+
+    @Test
+    public void SetAlgebra_WithDisjointSets_ShouldWorkCorrectly() {
+        // Arrange
+        HashSet<Integer> evens = range(0, 2000, 2);
+        HashSet<Integer> odds = range(1, 200, 2);
+
+        // Act
+        HashSet<Integer> union = odds.union(evens);
+        HashSet<Integer> intersection = evens.intersect(odds);
+        HashSet<Integer> largerMinusSmaller = evens.difference(odds);
+        HashSet<Integer> smallerMinusLarger = odds.difference(evens);
+
+        // Assert
+        Assert.assertEquals(1100, union.size());
+        Assert.assertTrue(intersection.isEmpty());
+        Assert.assertEquals(1000, largerMinusSmaller.size());
+        Assert.assertEquals(100, smallerMinusLarger.size());
+        for (int i = 0; i < 2000; i++) {
+            Assert.assertEquals(i % 2 == 0 || i < 200, union.contains(i));
+            Assert.assertEquals(i % 2 == 0, largerMinusSmaller.contains(i));
+            Assert.assertEquals(i % 2 == 1 && i < 200, smallerMinusLarger.contains(i));
+        }
+        Assert.assertFalse(evens.containsAll(odds));
+    }
+
+    @Test
+    public void SetAlgebra_WithIdenticalSets_ShouldWorkCorrectly() {
+        // Arrange
+        HashSet<Integer> left = range(0, 1000, 3);
+        HashSet<Integer> right = range(0, 1000, 3);
+
+        // Act & Assert
+        Assert.assertEquals(left.size(), left.union(right).size());
+        Assert.assertEquals(left.size(), left.intersect(right).size());
+        Assert.assertTrue(left.difference(right).isEmpty());
+        Assert.assertTrue(left.containsAll(right));
+        Assert.assertTrue(right.containsAll(left));
+    }
+
+    @Test
+    public void SetAlgebra_OfASetWithItself_ShouldLeaveTheSetUnchanged() {
+        // Arrange
+        HashSet<Integer> set = range(0, 1000, 7);
+        int size = set.size();
+
+        // Act
+        HashSet<Integer> union = set.union(set);
+        HashSet<Integer> intersection = set.intersect(set);
+        HashSet<Integer> difference = set.difference(set);
+
+        // Assert
+        Assert.assertEquals(size, union.size());
+        Assert.assertEquals(size, intersection.size());
+        Assert.assertTrue(difference.isEmpty());
+        Assert.assertTrue(set.containsAll(set));
+        Assert.assertEquals(size, set.size());
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(i % 7 == 0, set.contains(i));
+            Assert.assertEquals(i % 7 == 0, union.contains(i));
+        }
+    }
+
+    @Test
+    public void SetOperationResults_ShouldBeIndependentOfTheirOperands() {
+        // Arrange
+        HashSet<Integer> large = range(0, 1000, 1);
+        HashSet<Integer> small = range(500, 600, 1);
+
+        // Act
+        HashSet<Integer> union = large.union(small);
+        HashSet<Integer> difference = large.difference(small);
+        union.add(5000);
+        union.remove(1);
+        difference.add(550);
+        for (int i = 0; i < 1000; i++) {
+            difference.add(10000 + i);
+        }
+
+        // Assert
+        Assert.assertEquals(1000, large.size());
+        Assert.assertTrue(large.contains(1));
+        Assert.assertFalse(large.contains(5000));
+        Assert.assertFalse(large.contains(10000));
+        Assert.assertEquals(100, small.size());
+        Assert.assertEquals(1000, union.size());
+        Assert.assertEquals(1901, difference.size());
+    }
+
+    @Test
+    public void ParallelSetAlgebra_ShouldMatchSequential() {
+        // Arrange
+        ForkJoinPool pool = new ForkJoinPool(3);
+        HashSet<Integer> left = range(0, 300000, 1);
+        HashSet<Integer> right = range(200000, 500000, 3);
+
+        // Act
+        HashSet<Integer> union = left.union(right, pool);
+        HashSet<Integer> intersection = left.intersect(right, pool);
+        HashSet<Integer> difference = left.difference(right, pool);
+        boolean containsAll = union.containsAll(right, pool);
+        boolean notContainsAll = left.containsAll(right, pool);
+        pool.shutdown();
+
+        // Assert
+        Assert.assertEquals(left.union(right).size(), union.size());
+        Assert.assertEquals(left.intersect(right).size(), intersection.size());
+        Assert.assertEquals(left.difference(right).size(), difference.size());
+        Assert.assertTrue(containsAll);
+        Assert.assertFalse(notContainsAll);
+
+        for (int i = 0; i < 500000; i += 7) {
+            boolean inLeft = i < 300000;
+            boolean inRight = i >= 200000 && (i - 200000) % 3 == 0;
+
+            Assert.assertEquals(inLeft || inRight, union.contains(i));
+            Assert.assertEquals(inLeft && inRight, intersection.contains(i));
+            Assert.assertEquals(inLeft && !inRight, difference.contains(i));
+        }
+    }
+
+    private static HashSet<Integer> range(int from, int to, int step) {
+        HashSet<Integer> set = new HashSet<>();
+        for (int i = from; i < to; i += step) {
+            set.add(i);
+        }
+
+        return set;
+    }
+}
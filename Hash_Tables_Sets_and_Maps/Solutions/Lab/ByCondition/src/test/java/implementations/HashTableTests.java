@@ -0,0 +1,892 @@
+package implementations;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.StreamSupport;
+
+public class HashTableTests {
+
+    @Test
+    public void Add_EmptyHashTable_NoDuplicates_ShouldAddElement() {
+        // Arrange
+        HashTable<String, Integer> hashTable = new HashTable<String, Integer>();
+
+        // Act
+        KeyValue<String, Integer>[] elements = new KeyValue[]{
+                new KeyValue<String, Integer>("Peter", 5),
+                new KeyValue<String, Integer>("Maria", 6),
+                new KeyValue<String, Integer>("George", 4),
+                new KeyValue<String, Integer>("Kiril", 5)
+        };
+
+        for (KeyValue<String, Integer> element : elements) {
+            hashTable.add(element.getKey(), element.getValue());
+        }
+
+        for (KeyValue<String, Integer> element : elements) {
+            Assert.assertTrue(hashTable.containsKey(element.getKey()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Add_EmptyHashTable_Duplicates_ShouldThrowException() {
+        HashTable<String, String> hashTable = new HashTable<String, String>();
+        hashTable.add("peter", "1");
+        hashTable.add("peter", "2");
+        // Act
+    }
+
+    @Test
+    public void Add_1000_Elements_Grow_ShouldWorkCorrectly() {
+        // Arrange
+        HashTable<String, Integer> hashTable = new HashTable<String, Integer>(1);
+
+        // Act
+        List<KeyValue<String, Integer>> expectedElements = new ArrayList<KeyValue<String, Integer>>();
+        for (Integer i = 0; i < 1000; i++) {
+            hashTable.add("key" + i, i);
+            expectedElements.add(new KeyValue<String, Integer>("key" + i, i));
+        }
+
+        // Assert
+        for (KeyValue<String, Integer> expectedElement : expectedElements) {
+            Assert.assertTrue(hashTable.containsKey(expectedElement.getKey()));
+        }
+    }
+
+    @Test
+    public void AddOrReplace_WithDuplicates_ShouldWorkCorrectly() {
+        // Arrange
+        HashTable<String, Integer> hashTable = new HashTable<String, Integer>();
+
+        // Act
+        hashTable.addOrReplace("Peter", 555);
+        hashTable.addOrReplace("Maria", 999);
+        hashTable.addOrReplace("Maria", 123);
+        hashTable.addOrReplace("Maria", 6);
+        hashTable.addOrReplace("Peter", 5);
+
+        // Assert
+        KeyValue<String, Integer>[] expectedElements = new KeyValue[]{
+                new KeyValue<String, Integer>("Peter", 5),
+                new KeyValue<String, Integer>("Maria", 6)
+        };
+
+        for (KeyValue<String, Integer> expectedElement : expectedElements) {
+            Assert.assertTrue(hashTable.containsKey(expectedElement.getKey()));
+        }
+    }
+
+    @Test
+    public void Count_Empty_Add_Remove_ShouldWorkCorrectly() {
+        // Arrange
+        HashTable<String, Integer> hashTable = new HashTable<String, Integer>();
+
+        // Assert
+        Assert.assertEquals(0, hashTable.size());
+
+        // Act & Assert
+        hashTable.add("Peter", 555);
+        hashTable.addOrReplace("Peter", 555);
+        hashTable.addOrReplace("Ivan", 555);
+        Assert.assertEquals(2, hashTable.size());
+
+        // Act & Assert
+        hashTable.remove("Peter");
+        Assert.assertEquals(1, hashTable.size());
+
+        // Act & Assert
+        hashTable.remove("Peter");
+        Assert.assertEquals(1, hashTable.size());
+
+        // Act & Assert
+        hashTable.remove("Ivan");
+        Assert.assertEquals(0, hashTable.size());
+    }
+
+    @Test
+    public void Get_ExistingElement_ShouldReturnTheValue() {
+        // Arrange
+        HashTable<Integer, String> hashTable = new HashTable<Integer, String>();
+        hashTable.add(555, "Peter");
+
+        // Act
+        String actualValue = hashTable.get(555);
+
+        // Assert
+        Assert.assertEquals("Peter", actualValue);
+    }
+
+    // ===========================
+    @Test(expected = IllegalArgumentException.class)
+    public void Get_NonExistingElement_ShouldThrowException() {
+        // Arrange
+        HashTable<Integer, String> hashTable = new HashTable<Integer, String>();
+
+        // Act
+        hashTable.get(12345);
+    }
+
+    @Test
+    public void Capacity_Grow_ShouldWorkCorrectly() {
+        // Arrange
+        HashTable<String, Integer> hashTable = new HashTable<String, Integer>(2);
+
+        // Assert
+        Assert.assertEquals(2, hashTable.capacity());
+
+        // Act
+        hashTable.add("Peter", 123);
+        hashTable.add("Maria", 456);
+
+        // Assert
+        Assert.assertEquals(4, hashTable.capacity());
+
+        // Act
+        hashTable.add("Tanya", 555);
+        hashTable.add("George", 777);
+
+        // Assert
+        Assert.assertEquals(8, hashTable.capacity());
+    }
+
+    @Test
+    public void Find_ExistingElement_ShouldReturnTheElement() {
+        // Arrange
+        HashTable<String, Date> hashTable = new HashTable<String, Date>();
+        String name = "Maria";
+        Date date = new Date(1995, 7, 18);
+        hashTable.add(name, date);
+
+        // Act
+        KeyValue<String, Date> element = hashTable.find(name);
+
+        // Assert
+        KeyValue<String, Date> expectedElement = new KeyValue<>(name, date);
+        Assert.assertEquals(expectedElement, element);
+    }
+
+    @Test
+    public void Find_NonExistingElement_ShouldReturnNull() {
+        // Arrange
+        HashTable<String, Date> hashTable = new HashTable<String, Date>();
+
+        // Act
+        KeyValue<String, Date> element = hashTable.find("Maria");
+
+        // Assert
+        Assert.assertNull(element);
+    }
+
+    @Test
+    public void ContainsKey_ExistingElement_ShouldReturnTrue() {
+        // Arrange
+        HashTable<Date, String> hashTable = new HashTable<Date, String>();
+        Date date = new Date(1995, 7, 18);
+        hashTable.add(date, "Some value");
+
+        // Act
+        boolean containsKey = hashTable.containsKey(date);
+
+        // Assert
+        Assert.assertTrue(containsKey);
+    }
+
+    @Test
+    public void ContainsKey_NonExistingElement_ShouldReturnFalse() {
+        // Arrange
+        HashTable<Date, String> hashTable = new HashTable<Date, String>();
+        Date date = new Date(1995, 7, 18);
+
+        // Act
+        boolean containsKey = hashTable.containsKey(date);
+
+        // Assert
+        Assert.assertFalse(containsKey);
+    }
+
+    @Test
+    public void Remove_ExistingElement_ShouldWorkCorrectly() {
+        // Arrange {{"Peter", 12.5}, {"Maria", 99.9}}
+        HashTable<String, Double> hashTable = new HashTable<String, Double>();
+        hashTable.add("Peter", 12.5);
+        hashTable.add("Maria", 99.9);
+
+        // Assert
+        Assert.assertEquals(2, hashTable.size());
+
+        // Act
+        boolean removed = hashTable.remove("Peter");
+
+        // Assert
+        Assert.assertTrue(removed);
+        Assert.assertEquals(1, hashTable.size());
+    }
+
+    @Test
+    public void Remove_NonExistingElement_ShouldWorkCorrectly() {
+        // Arrange
+        HashTable<String, Double> hashTable = new HashTable<String, Double>();
+        hashTable.add("Peter", 12.5);
+        hashTable.add("Maria", 99.9);
+
+        // Assert
+        Assert.assertEquals(2, hashTable.size());
+
+        // Act
+        boolean removed = hashTable.remove("George");
+
+        // Assert
+        Assert.assertFalse(removed);
+        Assert.assertEquals(2, hashTable.size());
+    }
+
+    @Test
+    public void Remove_5000_Elements_ShouldWorkCorrectly() {
+        // Arrange
+        HashTable<String, Integer> hashTable = new HashTable<String, Integer>();
+        List<String> keys = new ArrayList<>();
+        int count = 5000;
+        for (int i = 0; i < count; i++)
+        {
+            String key = i + " " + i;
+            keys.add(key);
+            hashTable.add(key, i);
+        }
+
+        // Assert
+        Assert.assertEquals(count, hashTable.size());
+
+        // Act & Assert
+        for (String key : keys) {
+            hashTable.remove(key);
+            count--;
+            Assert.assertEquals(count, hashTable.size());
+        }
+
+//         Assert
+        int counter = 0;
+        for (KeyValue<String, Integer> stringIntegerKeyValue : hashTable) {
+            counter++;
+        }
+
+        Assert.assertEquals(0, counter);
+    }
+
+    @Test
+    public void Incremental_Grow_ShouldKeepElementsReachableDuringMigration() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>(16, HashTable.ResizeMode.INCREMENTAL);
+        boolean sawMigration = false;
+
+        // Act & Assert
+        for (int i = 0; i < 100000; i++) {
+            hashTable.add(i, i);
+            sawMigration |= hashTable.isMigrating();
+
+            if (i % 97 == 0) {
+                Assert.assertEquals(Integer.valueOf(i / 2), hashTable.get(i / 2));
+            }
+        }
+
+        Assert.assertTrue(sawMigration);
+        Assert.assertEquals(100000, hashTable.size());
+        for (int i = 0; i < 100000; i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashTable.get(i));
+        }
+    }
+
+    @Test
+    public void Incremental_Grow_ShouldBoundMigrationCostPerOperation() {
+        // Arrange
+        HashTable<String, Integer> hashTable = new HashTable<>(16, HashTable.ResizeMode.INCREMENTAL);
+
+        // Act
+        for (int i = 0; i < 200000; i++) {
+            hashTable.add("key" + i, i);
+        }
+
+        // Assert
+        Assert.assertTrue(hashTable.maxMigrationCost() > 0);
+        Assert.assertTrue(hashTable.maxMigrationCost() < 64);
+    }
+
+    @Test
+    public void Incremental_GrowThenShrinkTwice_ShouldBoundMigrationCostPerOperation() {
+        // Arrange
+        HashTable<String, Integer> hashTable = new HashTable<>(16, HashTable.ResizeMode.INCREMENTAL);
+        for (int i = 0; i < 200000; i++) {
+            hashTable.add("key" + i, i);
+        }
+        int grownCapacity = hashTable.capacity();
+        int resizes = hashTable.resizeCount();
+
+        // Act
+        for (int i = 0; i < 195000; i++) {
+            hashTable.remove("key" + i);
+        }
+
+        // Assert
+        Assert.assertTrue(hashTable.resizeCount() >= resizes + 2);
+        Assert.assertTrue(hashTable.capacity() <= grownCapacity / 4);
+        Assert.assertTrue(hashTable.maxMigrationCost() < 64);
+        for (int i = 195000; i < 200000; i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashTable.get("key" + i));
+        }
+    }
+
+    @Test
+    public void Incremental_RemoveAndReplace_DuringMigration_ShouldWorkCorrectly() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>(64, HashTable.ResizeMode.INCREMENTAL);
+        for (int i = 0; i < 52; i++) {
+            hashTable.add(i, i);
+        }
+
+        // Act
+        hashTable.add(52, 52);
+        Assert.assertTrue(hashTable.isMigrating());
+        Assert.assertEquals(128, hashTable.capacity());
+
+        boolean replaced = hashTable.addOrReplace(40, -40);
+        boolean removed = hashTable.remove(10);
+
+        // Assert
+        Assert.assertTrue(hashTable.isMigrating());
+        Assert.assertTrue(replaced);
+        Assert.assertTrue(removed);
+        Assert.assertEquals(Integer.valueOf(-40), hashTable.get(40));
+        Assert.assertFalse(hashTable.containsKey(10));
+
+        int counter = 0;
+        for (KeyValue<Integer, Integer> ignored : hashTable) {
+            counter++;
+        }
+        Assert.assertEquals(52, counter);
+        Assert.assertFalse(hashTable.isMigrating());
+    }
+
+    @Test
+    public void CollidingComparableKeys_ShouldStayReachableThroughTreeifyAndUntreeify() {
+        // Arrange
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        List<String> keys = collidingStrings(10);
+
+        // Act
+        for (int i = 0; i < keys.size(); i++) {
+            hashTable.add(keys.get(i), i);
+        }
+
+        // Assert
+        Assert.assertEquals(1024, hashTable.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashTable.get(keys.get(i)));
+        }
+        Assert.assertFalse(hashTable.containsKey("C#AaAaAaAaAaAaAaAaAa"));
+
+        // Act & Assert
+        for (int i = 0; i < keys.size() - 3; i++) {
+            Assert.assertTrue(hashTable.remove(keys.get(i)));
+        }
+        Assert.assertEquals(3, hashTable.size());
+        for (int i = keys.size() - 3; i < keys.size(); i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashTable.get(keys.get(i)));
+        }
+    }
+
+    @Test
+    public void CollidingNonComparableKeys_ShouldStillBeFoundAndRemoved() {
+        // Arrange
+        HashTable<CollidingKey, Integer> hashTable = new HashTable<>();
+        for (int i = 0; i < 100; i++) {
+            hashTable.add(new CollidingKey(i), i);
+        }
+
+        // Act
+        for (int i = 0; i < 100; i += 2) {
+            Assert.assertTrue(hashTable.remove(new CollidingKey(i)));
+        }
+
+        // Assert
+        Assert.assertEquals(50, hashTable.size());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(i % 2 == 1, hashTable.containsKey(new CollidingKey(i)));
+        }
+
+        int counter = 0;
+        for (KeyValue<CollidingKey, Integer> ignored : hashTable) {
+            counter++;
+        }
+        Assert.assertEquals(50, counter);
+    }
+
+    @Test
+    public void Keys_Values_ShouldBeLiveViews() {
+        // Arrange
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        Iterable<String> keys = hashTable.keys();
+        Iterable<Integer> values = hashTable.values();
+
+        // Act
+        hashTable.add("Peter", 5);
+        hashTable.add("Maria", 6);
+
+        // Assert
+        List<String> actualKeys = new ArrayList<>();
+        keys.forEach(actualKeys::add);
+        int sum = 0;
+        for (Integer value : values) {
+            sum += value;
+        }
+
+        Assert.assertEquals(2, actualKeys.size());
+        Assert.assertTrue(actualKeys.contains("Peter") && actualKeys.contains("Maria"));
+        Assert.assertEquals(11, sum);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void Iterator_Exhausted_ShouldThrowException() {
+        HashTable<String, Integer> hashTable = new HashTable<>();
+        hashTable.add("Peter", 5);
+
+        Iterator<KeyValue<String, Integer>> iterator = hashTable.iterator();
+        iterator.next();
+        iterator.next();
+    }
+
+    @Test
+    public void ParallelStream_ShouldVisitEveryElementOnce() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>(16, HashTable.ResizeMode.INCREMENTAL);
+        for (int i = 0; i < 100000; i++) {
+            hashTable.add(i, i);
+        }
+
+        // Act
+        long count = hashTable.parallelStream().count();
+        long sum = StreamSupport.stream(hashTable.spliterator(), true)
+                .mapToLong(KeyValue::getValue)
+                .sum();
+        long distinct = hashTable.parallelStream().map(KeyValue::getKey).distinct().count();
+
+        // Assert
+        Assert.assertEquals(100000, count);
+        Assert.assertEquals(99999L * 100000 / 2, sum);
+        Assert.assertEquals(100000, distinct);
+    }
+
+    @Test
+    public void Add_MinValueHashCode_ShouldWorkCorrectly() {
+        // Arrange
+        HashTable<Integer, String> hashTable = new HashTable<>(16, HashTable.ResizeMode.EAGER, HashSpreader.IDENTITY);
+
+        // Act
+        hashTable.add(Integer.MIN_VALUE, "min");
+        hashTable.add(Integer.MAX_VALUE, "max");
+        hashTable.add(-1, "minus one");
+
+        // Assert
+        Assert.assertEquals("min", hashTable.get(Integer.MIN_VALUE));
+        Assert.assertEquals("max", hashTable.get(Integer.MAX_VALUE));
+        Assert.assertEquals("minus one", hashTable.get(-1));
+    }
+
+    @Test
+    public void Constructor_ShouldRoundCapacityUpToPowerOfTwo() {
+        Assert.assertEquals(16, new HashTable<String, String>(10).capacity());
+        Assert.assertEquals(1, new HashTable<String, String>(1).capacity());
+        Assert.assertEquals(64, new HashTable<String, String>(64).capacity());
+    }
+
+    @Test
+    public void Spreaders_ShouldAllFindEveryKey() {
+        HashSpreader[] spreaders = {HashSpreader.IDENTITY, HashSpreader.FIBONACCI, HashSpreader.MURMUR3, hash -> 0};
+
+        for (HashSpreader spreader : spreaders) {
+            // Arrange
+            HashTable<Integer, Integer> hashTable = new HashTable<>(16, HashTable.ResizeMode.EAGER, spreader);
+
+            // Act
+            for (int i = 0; i < 1000; i++) {
+                hashTable.add(i * 1024, i);
+            }
+            for (int i = 0; i < 1000; i += 2) {
+                hashTable.remove(i * 1024);
+            }
+
+            // Assert
+            Assert.assertEquals(500, hashTable.size());
+            for (int i = 0; i < 1000; i++) {
+                Assert.assertEquals(i % 2 == 1, hashTable.containsKey(i * 1024));
+            }
+        }
+    }
+
+    @Test
+    public void Instrumentation_ShouldDescribeTheTable() {
+        // Arrange
+        HashTable<Integer, Integer> identity = new HashTable<>(16, HashTable.ResizeMode.EAGER, HashSpreader.IDENTITY);
+        HashTable<Integer, Integer> fibonacci = new HashTable<>(16, HashTable.ResizeMode.EAGER, HashSpreader.FIBONACCI);
+
+        // Act
+        // Multiples of 1024 share their low bits, so without spreading they all land in slot 0.
+        for (int i = 0; i < 100; i++) {
+            identity.add(i * 1024, i);
+            fibonacci.add(i * 1024, i);
+        }
+
+        // Assert
+        int[] histogram = fibonacci.chainLengthHistogram();
+        int slots = 0;
+        int entries = 0;
+        for (int length = 0; length < histogram.length; length++) {
+            slots += histogram[length];
+            entries += length * histogram[length];
+        }
+
+        Assert.assertEquals(fibonacci.capacity(), slots);
+        Assert.assertEquals(100, entries);
+        Assert.assertEquals(3, fibonacci.resizeCount());
+        Assert.assertEquals(100.0 / 128, fibonacci.loadFactor(), 1e-9);
+        Assert.assertTrue(fibonacci.maxProbeDepth() < 8);
+
+        Assert.assertEquals(101, identity.chainLengthHistogram().length);
+        Assert.assertTrue(identity.maxProbeDepth() < 100);
+    }
+
+    @Test
+    public void FibonacciSpreader_WithMultiplesOfALargePowerOfTwo_ShouldKeepChainsShort() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>(16, HashTable.ResizeMode.EAGER, HashSpreader.FIBONACCI);
+
+        // Act
+        // Only the top 12 bits of these keys differ, and 4096 of them are all there are.
+        for (int i = 0; i < 4096; i++) {
+            hashTable.add(i << 20, i);
+        }
+
+        // Assert
+        Assert.assertEquals(4096, hashTable.size());
+        Assert.assertTrue(hashTable.maxProbeDepth() <= 2);
+        for (int i = 0; i < 4096; i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashTable.get(i << 20));
+        }
+    }
+
+    @Test
+    public void Instrumentation_DuringMigration_ShouldCountEveryEntryWithoutMigrating() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>(1024, HashTable.ResizeMode.INCREMENTAL);
+        for (int i = 0; i < 820; i++) {
+            hashTable.add(i, i);
+        }
+        int pending = hashTable.pendingMigrationSlots();
+
+        // Act
+        int[] histogram = hashTable.chainLengthHistogram();
+        int depth = hashTable.maxProbeDepth();
+
+        // Assert
+        Assert.assertTrue(hashTable.isMigrating());
+        Assert.assertEquals(pending, hashTable.pendingMigrationSlots());
+        int entries = 0;
+        for (int size = 1; size < histogram.length; size++) {
+            entries += size * histogram[size];
+        }
+        Assert.assertEquals(820, entries);
+        Assert.assertEquals(histogram.length - 1, depth);
+    }
+
+    @Test
+    public void BulkBuild_ShouldMatchRepeatedAdds() {
+        // Arrange
+        @SuppressWarnings("unchecked")
+        KeyValue<Integer, Integer>[] elements = new KeyValue[200000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = new KeyValue<>(i * 31, i);
+        }
+
+        // Act
+        HashTable<Integer, Integer> hashTable = HashTable.bulkBuild(elements, HashTable.BulkMode.ADD);
+
+        // Assert
+        Assert.assertEquals(200000, hashTable.size());
+        Assert.assertEquals(0, hashTable.resizeCount());
+        for (int i = 0; i < elements.length; i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashTable.get(i * 31));
+        }
+
+        int counter = 0;
+        for (KeyValue<Integer, Integer> ignored : hashTable) {
+            counter++;
+        }
+        Assert.assertEquals(200000, counter);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void BulkBuild_Add_Duplicates_ShouldThrowException() {
+        List<KeyValue<String, Integer>> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(new KeyValue<>("key" + i, i));
+        }
+        elements.add(new KeyValue<>("key500", -1));
+
+        HashTable.bulkBuild(elements, HashTable.BulkMode.ADD);
+    }
+
+    @Test
+    public void BulkBuild_AddOrReplace_Duplicates_LastShouldWin() {
+        // Arrange
+        List<KeyValue<String, Integer>> elements = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10000; i++) {
+                elements.add(new KeyValue<>("key" + i, round * i));
+            }
+        }
+
+        // Act
+        HashTable<String, Integer> hashTable = HashTable.bulkBuild(elements.stream(), HashTable.BulkMode.ADD_OR_REPLACE);
+
+        // Assert
+        Assert.assertEquals(10000, hashTable.size());
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertEquals(Integer.valueOf(2 * i), hashTable.get("key" + i));
+        }
+
+        // The table owns its entries, changing it leaves the input alone.
+        hashTable.addOrReplace("key1", -1);
+        Assert.assertEquals(Integer.valueOf(2), elements.get(20001).getValue());
+    }
+
+    @Test
+    public void BulkBuild_CustomPool_SmallInput_ShouldWorkCorrectly() {
+        // Arrange
+        ForkJoinPool pool = new ForkJoinPool(3);
+        @SuppressWarnings("unchecked")
+        KeyValue<String, Integer>[] elements = new KeyValue[]{new KeyValue<>("Peter", 5), new KeyValue<>("Maria", 6)};
+
+        // Act
+        HashTable<String, Integer> hashTable = HashTable.bulkBuild(elements, HashTable.BulkMode.ADD, pool);
+        HashTable<String, Integer> empty = HashTable.bulkBuild(new ArrayList<>(), HashTable.BulkMode.ADD);
+        pool.shutdown();
+
+        // Assert
+        Assert.assertEquals(2, hashTable.size());
+        Assert.assertEquals(Integer.valueOf(6), hashTable.get("Maria"));
+        Assert.assertEquals(0, empty.size());
+        Assert.assertFalse(empty.iterator().hasNext());
+    }
+
+    @Test
+    public void Remove_Many_ShouldShrinkCapacity() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>();
+        for (int i = 0; i < 10000; i++) {
+            hashTable.add(i, i);
+        }
+
+        // Act
+        for (int i = 0; i < 9900; i++) {
+            hashTable.remove(i);
+        }
+
+        // Assert
+        Assert.assertEquals(100, hashTable.size());
+        Assert.assertEquals(256, hashTable.capacity());
+        for (int i = 9900; i < 10000; i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashTable.get(i));
+        }
+    }
+
+    @Test
+    public void AddRemoveChurn_ShouldNotResize() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>();
+        for (int i = 0; i < 1000; i++) {
+            hashTable.add(i, i);
+        }
+        for (int i = 0; i < 900; i++) {
+            hashTable.remove(i);
+        }
+        int resizes = hashTable.resizeCount();
+
+        // Act
+        for (int i = 0; i < 10000; i++) {
+            hashTable.add(-1, i);
+            hashTable.remove(-1);
+            hashTable.remove(900 + i % 100);
+            hashTable.add(900 + i % 100, i);
+        }
+
+        // Assert
+        Assert.assertEquals(resizes, hashTable.resizeCount());
+        Assert.assertEquals(100, hashTable.size());
+    }
+
+    @Test
+    public void Remove_ShouldNotShrinkBelowInitialCapacity() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>(1024);
+        for (int i = 0; i < 10; i++) {
+            hashTable.add(i, i);
+        }
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            hashTable.remove(i);
+        }
+
+        // Assert
+        Assert.assertEquals(1024, hashTable.capacity());
+    }
+
+    @Test
+    public void TrimToSize_ShouldShrinkToFitElements() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>(1 << 16);
+        for (int i = 0; i < 100; i++) {
+            hashTable.add(i, i);
+        }
+
+        // Act
+        hashTable.trimToSize();
+
+        // Assert
+        Assert.assertEquals(128, hashTable.capacity());
+        Assert.assertEquals(100, hashTable.size());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashTable.get(i));
+        }
+
+        hashTable.add(100, 100);
+        Assert.assertEquals(128, hashTable.capacity());
+    }
+
+    @Test
+    public void Incremental_Shrink_ShouldKeepElementsReachable() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>(16, HashTable.ResizeMode.INCREMENTAL);
+        for (int i = 0; i < 100000; i++) {
+            hashTable.add(i, i);
+        }
+
+        // Act & Assert
+        for (int i = 0; i < 99000; i++) {
+            hashTable.remove(i);
+
+            if (i % 89 == 0) {
+                Assert.assertEquals(Integer.valueOf(99999 - i % 1000), hashTable.get(99999 - i % 1000));
+            }
+        }
+
+        Assert.assertEquals(1000, hashTable.size());
+        Assert.assertTrue(hashTable.capacity() <= 8192);
+        for (int i = 99000; i < 100000; i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashTable.get(i));
+        }
+    }
+
+    @Test
+    public void BloomFilter_ShouldAnswerMostMisses() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>();
+        for (int i = 0; i < 10000; i++) {
+            hashTable.add(i, i);
+        }
+        hashTable.enableBloomFilter(0.01);
+
+        // Act
+        int found = 0;
+        for (int i = 0; i < 100000; i++) {
+            if (hashTable.containsKey(i)) {
+                found++;
+            }
+        }
+
+        // Assert
+        Assert.assertTrue(hashTable.hasBloomFilter());
+        Assert.assertEquals(10000, found);
+        Assert.assertEquals(90000, hashTable.bloomFilterRejections() + hashTable.bloomFilterFalsePositives());
+        Assert.assertTrue(hashTable.bloomFilterFalsePositives() < 90000 * 0.03);
+    }
+
+    @Test
+    public void BloomFilter_ShouldStayCorrectThroughRemovesAndResizes() {
+        // Arrange
+        HashTable<Integer, Integer> hashTable = new HashTable<>(16, HashTable.ResizeMode.INCREMENTAL);
+        hashTable.enableBloomFilter(0.05);
+
+        // Act & Assert
+        for (int i = 0; i < 50000; i++) {
+            hashTable.add(i, i);
+
+            if (i % 101 == 0) {
+                Assert.assertTrue(hashTable.containsKey(i / 3));
+            }
+        }
+        for (int i = 0; i < 50000; i += 2) {
+            hashTable.remove(i);
+        }
+
+        for (int i = 0; i < 50000; i++) {
+            Assert.assertEquals(i % 2 == 1, hashTable.containsKey(i));
+        }
+
+        hashTable.trimToSize();
+        hashTable.addOrReplace(-5, -5);
+        Assert.assertTrue(hashTable.containsKey(-5));
+        Assert.assertFalse(hashTable.containsKey(0));
+
+        hashTable.clear();
+        Assert.assertFalse(hashTable.containsKey(1));
+        hashTable.add(1, 1);
+        Assert.assertTrue(hashTable.containsKey(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void BloomFilter_InvalidRate_ShouldThrowException() {
+        new HashTable<String, String>().enableBloomFilter(1.5);
+    }
+
+    // Strings built from "Aa" and "BB" blocks all share the same hashCode
+    static List<String> collidingStrings(int blocks) {
+        List<String> strings = new ArrayList<>();
+        strings.add("");
+
+        for (int i = 0; i < blocks; i++) {
+            List<String> longer = new ArrayList<>();
+            for (String string : strings) {
+                longer.add(string + "Aa");
+                longer.add(string + "BB");
+            }
+            strings = longer;
+        }
+
+        return strings;
+    }
+
+    private static class CollidingKey {
+        private final int id;
+
+        CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == this.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
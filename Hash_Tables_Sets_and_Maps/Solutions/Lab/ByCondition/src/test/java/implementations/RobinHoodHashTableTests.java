@@ -0,0 +1,141 @@
+package implementations;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class RobinHoodHashTableTests {
+
+    @Test
+    public void Add_EmptyHashTable_NoDuplicates_ShouldAddElement() {
+        // Arrange
+        RobinHoodHashTable<String, Integer> hashTable = new RobinHoodHashTable<>();
+
+        // Act
+        hashTable.add("Peter", 5);
+        hashTable.add("Maria", 6);
+        hashTable.add("George", 4);
+
+        // Assert
+        Assert.assertEquals(3, hashTable.size());
+        Assert.assertEquals(Integer.valueOf(6), hashTable.get("Maria"));
+        Assert.assertTrue(hashTable.containsKey("George"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Add_EmptyHashTable_Duplicates_ShouldThrowException() {
+        RobinHoodHashTable<String, String> hashTable = new RobinHoodHashTable<>();
+        hashTable.add("peter", "1");
+        hashTable.add("peter", "2");
+    }
+
+    @Test
+    public void AddOrReplace_WithDuplicates_ShouldReplaceValue() {
+        // Arrange
+        RobinHoodHashTable<String, Integer> hashTable = new RobinHoodHashTable<>();
+
+        // Act
+        boolean first = hashTable.addOrReplace("Maria", 999);
+        boolean second = hashTable.addOrReplace("Maria", 6);
+
+        // Assert
+        Assert.assertFalse(first);
+        Assert.assertTrue(second);
+        Assert.assertEquals(1, hashTable.size());
+        Assert.assertEquals(new KeyValue<>("Maria", 6), hashTable.find("Maria"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Get_NonExistingElement_ShouldThrowException() {
+        RobinHoodHashTable<Integer, String> hashTable = new RobinHoodHashTable<>();
+        hashTable.get(12345);
+    }
+
+    @Test
+    public void Capacity_Grow_ShouldKeepPowerOfTwo() {
+        // Arrange
+        RobinHoodHashTable<Integer, Integer> hashTable = new RobinHoodHashTable<>(3);
+
+        // Assert
+        Assert.assertEquals(4, hashTable.capacity());
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            hashTable.add(i, i);
+        }
+
+        // Assert
+        Assert.assertEquals(8, hashTable.capacity());
+    }
+
+    @Test
+    public void Add_Remove_CollidingKeys_ShouldKeepEveryOtherKeyReachable() {
+        // Arrange
+        RobinHoodHashTable<Integer, Integer> hashTable = new RobinHoodHashTable<>(1);
+        int count = 20000;
+        for (int i = 0; i < count; i++) {
+            hashTable.add(i * 1024, i);
+        }
+
+        // Act
+        for (int i = 0; i < count; i += 2) {
+            Assert.assertTrue(hashTable.remove(i * 1024));
+        }
+
+        // Assert
+        Assert.assertEquals(count / 2, hashTable.size());
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(i % 2 == 1, hashTable.containsKey(i * 1024));
+        }
+        Assert.assertFalse(hashTable.remove(0));
+    }
+
+    @Test
+    public void Iterator_Keys_Values_ShouldReturnEveryElementOnce() {
+        // Arrange
+        RobinHoodHashTable<String, Integer> hashTable = new RobinHoodHashTable<>();
+        for (int i = 0; i < 1000; i++) {
+            hashTable.add("key" + i, i);
+        }
+
+        // Act
+        Set<String> keys = new HashSet<>();
+        int sum = 0;
+        for (KeyValue<String, Integer> element : hashTable) {
+            keys.add(element.getKey());
+            sum += element.getValue();
+        }
+
+        // Assert
+        Assert.assertEquals(1000, keys.size());
+        Assert.assertEquals(999 * 1000 / 2, sum);
+
+        int keyCount = 0;
+        for (String ignored : hashTable.keys()) {
+            keyCount++;
+        }
+        int valueCount = 0;
+        for (Integer ignored : hashTable.values()) {
+            valueCount++;
+        }
+        Assert.assertEquals(1000, keyCount);
+        Assert.assertEquals(1000, valueCount);
+    }
+
+    @Test
+    public void Clear_ShouldRemoveEverything() {
+        // Arrange
+        RobinHoodHashTable<String, Integer> hashTable = new RobinHoodHashTable<>();
+        hashTable.add("Peter", 1);
+
+        // Act
+        hashTable.clear();
+
+        // Assert
+        Assert.assertEquals(0, hashTable.size());
+        Assert.assertFalse(hashTable.containsKey("Peter"));
+        Assert.assertFalse(hashTable.iterator().hasNext());
+    }
+}
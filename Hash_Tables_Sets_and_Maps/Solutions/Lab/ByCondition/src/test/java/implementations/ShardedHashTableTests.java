@@ -0,0 +1,257 @@
+package implementations;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ShardedHashTableTests {
+
+    @Test
+    public void Batch_ShouldReturnResultsInOrder() {
+        try (ShardedHashTable<String, Integer> hashTable = new ShardedHashTable<>(4)) {
+            // Arrange
+            hashTable.put("Peter", 5);
+
+            // Act
+            List<Integer> results = hashTable.submit(new ShardedHashTable.Batch<String, Integer>()
+                    .get("Peter")
+                    .put("Peter", 50)
+                    .put("Maria", 6)
+                    .get("George")
+                    .remove("Maria")
+                    .get("Peter"))
+                    .join();
+
+            // Assert
+            Assert.assertEquals(Arrays.asList(5, 5, null, null, 6, 50), results);
+            Assert.assertEquals(1, hashTable.size());
+            Assert.assertNull(hashTable.get("Maria"));
+        }
+    }
+
+    @Test
+    public void ConcurrentProducers_ShouldNotLoseOperations() throws InterruptedException {
+        try (ShardedHashTable<Integer, Integer> hashTable = new ShardedHashTable<>(3)) {
+            // Arrange
+            int producers = 4;
+            int perProducer = 20000;
+            List<Thread> threads = new ArrayList<>();
+
+            // Act
+            for (int p = 0; p < producers; p++) {
+                int offset = p * perProducer;
+                threads.add(new Thread(() -> {
+                    List<CompletableFuture<List<Integer>>> futures = new ArrayList<>();
+                    ShardedHashTable.Batch<Integer, Integer> batch = new ShardedHashTable.Batch<>();
+
+                    for (int i = 0; i < perProducer; i++) {
+                        batch.put(offset + i, i);
+
+                        if (batch.size() == 64) {
+                            futures.add(hashTable.submit(batch));
+                            batch = new ShardedHashTable.Batch<>();
+                        }
+                    }
+                    futures.add(hashTable.submit(batch));
+                    futures.forEach(CompletableFuture::join);
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Assert
+            ShardedHashTable.Batch<Integer, Integer> check = new ShardedHashTable.Batch<>();
+            for (int i = 0; i < producers * perProducer; i++) {
+                check.get(i);
+            }
+            List<Integer> values = hashTable.submit(check).join();
+
+            Assert.assertEquals(producers * perProducer, hashTable.size());
+            for (int i = 0; i < producers * perProducer; i++) {
+                Assert.assertEquals(Integer.valueOf(i % perProducer), values.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void ThreadFactory_ShouldCreateOneWorkerPerShard() {
+        // Arrange
+        AtomicInteger created = new AtomicInteger();
+
+        // Act
+        ShardedHashTable<String, String> hashTable = new ShardedHashTable<>(5, runnable -> {
+            created.incrementAndGet();
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        hashTable.put("peter", "1");
+        hashTable.close();
+
+        // Assert
+        Assert.assertEquals(5, created.get());
+        Assert.assertEquals(5, hashTable.shardCount());
+    }
+
+    @Test
+    public void ErrorInKeyEquals_ShouldFailTheBatch_AndKeepTheShardRunning() {
+        try (ShardedHashTable<Object, String> hashTable = new ShardedHashTable<>(1)) {
+            // Arrange
+            hashTable.put(new BrokenKey(), "first");
+
+            // Act
+            CompletableFuture<List<String>> failed = hashTable.submit(
+                    new ShardedHashTable.Batch<Object, String>().put(new BrokenKey(), "second"));
+
+            // Assert
+            try {
+                failed.join();
+                Assert.fail();
+            } catch (CompletionException expected) {
+                Assert.assertTrue(expected.getCause() instanceof StackOverflowError);
+            }
+            Assert.assertNull(hashTable.put("Peter", "5"));
+            Assert.assertEquals("5", hashTable.get("Peter"));
+        }
+    }
+
+    @Test
+    public void FailedBatch_ShouldCompleteOnlyAfterEveryShardIsDone() {
+        try (ShardedHashTable<Object, String> hashTable = new ShardedHashTable<>(2)) {
+            // Arrange
+            AtomicBoolean slowPartDone = new AtomicBoolean();
+            int otherShardHash = hashOnOtherShard(new BrokenKey().hashCode());
+            hashTable.put(new BrokenKey(), "first");
+            hashTable.put(new SlowKey(otherShardHash, slowPartDone), "slow");
+
+            // Act
+            CompletableFuture<List<String>> failed = hashTable.submit(new ShardedHashTable.Batch<Object, String>()
+                    .put(new BrokenKey(), "second")
+                    .get(new SlowKey(otherShardHash, slowPartDone)));
+
+            // Assert
+            try {
+                failed.join();
+                Assert.fail();
+            } catch (CompletionException expected) {
+                Assert.assertTrue(expected.getCause() instanceof StackOverflowError);
+            }
+            Assert.assertTrue(slowPartDone.get());
+        }
+    }
+
+    @Test
+    public void Close_FromACallbackOnTheWorker_ShouldNotDeadlock() {
+        // Arrange
+        ShardedHashTable<Object, String> hashTable = new ShardedHashTable<>(1);
+        AtomicBoolean compared = new AtomicBoolean();
+        hashTable.put(new SlowKey(7, compared), "slow");
+
+        // Act
+        hashTable.submit(new ShardedHashTable.Batch<Object, String>().get(new SlowKey(7, compared)))
+                .thenRun(hashTable::close)
+                .orTimeout(5, TimeUnit.SECONDS)
+                .join();
+
+        // Assert
+        Assert.assertTrue(compared.get());
+        try {
+            hashTable.get("Peter");
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void DefaultWorkers_ShouldBeNamedByShard() {
+        // Arrange
+        Thread[] workers = new Thread[Thread.activeCount() + 16];
+
+        // Act
+        try (ShardedHashTable<String, String> hashTable = new ShardedHashTable<>(3)) {
+            int count = Thread.enumerate(workers);
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                names.add(workers[i].getName());
+            }
+
+            // Assert
+            for (int shard = 0; shard < hashTable.shardCount(); shard++) {
+                Assert.assertTrue(names.contains("sharded-hash-table-worker-" + shard));
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void Submit_AfterClose_ShouldThrowException() {
+        ShardedHashTable<String, String> hashTable = new ShardedHashTable<>(2);
+        hashTable.close();
+
+        hashTable.get("peter");
+    }
+
+    // Two shards split the keys on the top bit of the spread hash.
+    private static int hashOnOtherShard(int hash) {
+        int shardBit = HashSpreader.MURMUR3.spread(hash) >>> 31;
+
+        int other = 0;
+        while (HashSpreader.MURMUR3.spread(other) >>> 31 == shardBit) {
+            other++;
+        }
+
+        return other;
+    }
+
+    // Instances with the same hash collide, and comparing two of them takes a while.
+    private static class SlowKey {
+        private final int hash;
+        private final AtomicBoolean compared;
+
+        SlowKey(int hash, AtomicBoolean compared) {
+            this.hash = hash;
+            this.compared = compared;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            this.compared.set(true);
+            return this == other;
+        }
+    }
+
+    // Every instance collides with every other, and comparing two of them throws an Error.
+    private static class BrokenKey {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            throw new StackOverflowError();
+        }
+    }
+}
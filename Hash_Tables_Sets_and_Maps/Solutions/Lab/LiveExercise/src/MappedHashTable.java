@@ -0,0 +1,558 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+/**
+ * Off-heap, persistent variant of {@link HashTable} for String keys and values.
+ * <p>
+ * Everything lives in a memory-mapped file: a header page, an open addressing index of record
+ * offsets and an append-only arena of UTF-8 key/value records. Reopening a cleanly closed file only
+ * reads the header, nothing is rehashed. The file grows by extending it and remapping the tail.
+ * <p>
+ * The header is kept in two CRC-checked copies that are written alternately, so a crash while
+ * committing falls back to the previous commit. Changes become durable with {@link #flush()} or
+ * {@link #close()}; if the process dies before that, the next open validates every record and
+ * rebuilds the index from the intact ones.
+ */
+public class MappedHashTable implements Iterable<KeyValue<String, String>>, Closeable {
+    private static final long MAGIC = 0x4D41505048415348L;
+    private static final int HEADER_SIZE = 4096;
+    private static final int HEADER_SLOT_SIZE = 64;
+    private static final int FLAG_CLEAN = 1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double LOAD_FACTOR = 0.75d;
+    private static final long INITIAL_FILE_SIZE = 1L << 20;
+
+    // Records never straddle a segment, index slots are 8-byte aligned so they never do either
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+
+    // Index slot: 24-bit hash tag above a 40-bit record offset, 0 = empty
+    private static final int OFFSET_BITS = 40;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+    // Record: hash, key length, value length, crc, key bytes, value bytes
+    private static final int RECORD_HEADER = 16;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final CRC32 crc = new CRC32();
+
+    private MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    private long fileLength;
+
+    private long generation;
+    private long indexOffset;
+    private long capacity;
+    private long arenaEnd;
+    private int size;
+    private boolean dirty;
+    private boolean closed;
+
+    private MappedHashTable(RandomAccessFile file) {
+        this.file = file;
+        this.channel = file.getChannel();
+    }
+
+    public static MappedHashTable open(Path path) throws IOException {
+        MappedHashTable table = new MappedHashTable(new RandomAccessFile(path.toFile(), "rw"));
+
+        try {
+            if (table.channel.size() == 0) {
+                table.initialize();
+            } else {
+                table.load();
+            }
+        } catch (IOException | RuntimeException e) {
+            table.file.close();
+            throw e;
+        }
+
+        return table;
+    }
+
+    public void put(String key, String value) {
+        this.ensureOpen();
+
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        int hash = mix(key.hashCode());
+
+        this.markDirty();
+
+        long slot = this.findSlot(hash, keyBytes);
+        boolean replaces = this.readLong(slot) != 0;
+
+        if (!replaces && this.size + 1 > LOAD_FACTOR * this.capacity) {
+            this.rehash(2 * this.capacity);
+            slot = this.findSlot(hash, keyBytes);
+        }
+
+        // The record is complete before the slot points at it, so a reader never sees half of it.
+        long record = this.writeRecord(hash, keyBytes, valueBytes);
+        this.writeLong(slot, tag(hash) | record);
+
+        if (!replaces) {
+            this.size++;
+        }
+    }
+
+    public String get(String key) {
+        this.ensureOpen();
+
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long entry = this.readLong(this.findSlot(mix(key.hashCode()), keyBytes));
+
+        if (entry == 0) {
+            return null;
+        }
+
+        return this.readValue(entry & OFFSET_MASK);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public long capacity() {
+        return this.capacity;
+    }
+
+    public void flush() {
+        this.ensureOpen();
+
+        try {
+            this.force();
+            this.writeHeader(true);
+            this.dirty = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Closing a closed table does nothing; every other call on it throws IllegalStateException.
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+
+        try {
+            this.flush();
+        } finally {
+            this.closed = true;
+            this.segments = new MappedByteBuffer[0];
+            this.file.close();
+        }
+    }
+
+    @Override
+    public Iterator<KeyValue<String, String>> iterator() {
+        this.ensureOpen();
+
+        return new MappedIterator();
+    }
+
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("Hash table file is closed");
+        }
+    }
+
+    private void initialize() throws IOException {
+        this.ensureMapped(INITIAL_FILE_SIZE);
+        this.capacity = INITIAL_CAPACITY;
+        this.indexOffset = HEADER_SIZE;
+        this.arenaEnd = this.indexOffset + 8 * this.capacity;
+        this.size = 0;
+
+        this.writeHeader(true);
+    }
+
+    private void load() throws IOException {
+        this.ensureMapped(this.channel.size());
+
+        long first = this.readHeader(0);
+        long second = this.readHeader(HEADER_SLOT_SIZE);
+        if (first < 0 && second < 0) {
+            throw new IOException("Not a hash table file or both headers are corrupted");
+        }
+
+        boolean clean = this.applyHeader(first >= second ? 0 : HEADER_SLOT_SIZE);
+        if (!clean) {
+            this.recover();
+        }
+    }
+
+    // The process died without committing: keep every slot that still points at an intact
+    // record and rebuild the index from them behind the furthest record that survived.
+    private void recover() throws IOException {
+        long end = this.arenaEnd;
+        int valid = 0;
+
+        for (long i = 0; i < this.capacity; i++) {
+            long record = this.readLong(this.indexOffset + 8 * i) & OFFSET_MASK;
+
+            if (record != 0 && this.isValidRecord(record)) {
+                end = Math.max(end, record + this.recordLength(record));
+                valid++;
+            }
+        }
+
+        long oldIndex = this.indexOffset;
+        long oldCapacity = this.capacity;
+
+        this.arenaEnd = end;
+        this.capacity = Math.max(this.capacity, indexCapacityFor(valid));
+        this.indexOffset = this.allocate(8 * this.capacity, false);
+        this.size = 0;
+
+        for (long i = 0; i < oldCapacity; i++) {
+            long entry = this.readLong(oldIndex + 8 * i);
+            long record = entry & OFFSET_MASK;
+
+            if (record != 0 && this.isValidRecord(record)) {
+                this.writeLong(this.freeSlot(this.readInt(record)), entry);
+                this.size++;
+            }
+        }
+
+        this.force();
+        this.writeHeader(true);
+    }
+
+    private void rehash(long newCapacity) {
+        long oldIndex = this.indexOffset;
+        long oldCapacity = this.capacity;
+
+        this.capacity = newCapacity;
+        this.indexOffset = this.allocate(8 * newCapacity, false);
+
+        for (long i = 0; i < oldCapacity; i++) {
+            long entry = this.readLong(oldIndex + 8 * i);
+
+            if (entry != 0) {
+                this.writeLong(this.freeSlot(this.readInt(entry & OFFSET_MASK)), entry);
+            }
+        }
+
+        // The old index stays untouched until the header switches over, so the commit is atomic.
+        this.flush();
+        this.markDirty();
+    }
+
+    private long findSlot(int hash, byte[] key) {
+        long mask = this.capacity - 1;
+        long tag = tag(hash);
+        long index = hash & mask;
+
+        while (true) {
+            long slot = this.indexOffset + 8 * index;
+            long entry = this.readLong(slot);
+
+            if (entry == 0 || ((entry & ~OFFSET_MASK) == tag && this.keyEquals(entry & OFFSET_MASK, hash, key))) {
+                return slot;
+            }
+
+            index = (index + 1) & mask;
+        }
+    }
+
+    private long freeSlot(int hash) {
+        long mask = this.capacity - 1;
+        long index = hash & mask;
+
+        while (this.readLong(this.indexOffset + 8 * index) != 0) {
+            index = (index + 1) & mask;
+        }
+
+        return this.indexOffset + 8 * index;
+    }
+
+    private long writeRecord(int hash, byte[] key, byte[] value) {
+        int length = RECORD_HEADER + key.length + value.length;
+        long record = this.allocate(length, true);
+
+        MappedByteBuffer segment = this.segmentFor(record);
+        int position = (int) (record & (SEGMENT_SIZE - 1));
+
+        segment.putInt(position, hash);
+        segment.putInt(position + 4, key.length);
+        segment.putInt(position + 8, value.length);
+        segment.put(position + RECORD_HEADER, key);
+        segment.put(position + RECORD_HEADER + key.length, value);
+        segment.putInt(position + 12, this.checksum(segment, position, length));
+
+        return record;
+    }
+
+    private boolean keyEquals(long record, int hash, byte[] key) {
+        MappedByteBuffer segment = this.segmentFor(record);
+        int position = (int) (record & (SEGMENT_SIZE - 1));
+
+        if (segment.getInt(position) != hash || segment.getInt(position + 4) != key.length) {
+            return false;
+        }
+
+        for (int i = 0; i < key.length; i++) {
+            if (segment.get(position + RECORD_HEADER + i) != key[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String readKey(long record) {
+        MappedByteBuffer segment = this.segmentFor(record);
+        int position = (int) (record & (SEGMENT_SIZE - 1));
+
+        return this.decode(segment, position + RECORD_HEADER, segment.getInt(position + 4));
+    }
+
+    private String readValue(long record) {
+        MappedByteBuffer segment = this.segmentFor(record);
+        int position = (int) (record & (SEGMENT_SIZE - 1));
+        int keyLength = segment.getInt(position + 4);
+
+        return this.decode(segment, position + RECORD_HEADER + keyLength, segment.getInt(position + 8));
+    }
+
+    private String decode(MappedByteBuffer segment, int position, int length) {
+        byte[] bytes = new byte[length];
+        segment.get(position, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean isValidRecord(long record) {
+        if (record < HEADER_SIZE || record + RECORD_HEADER > this.fileLength) {
+            return false;
+        }
+
+        MappedByteBuffer segment = this.segmentFor(record);
+        int position = (int) (record & (SEGMENT_SIZE - 1));
+        long keyLength = segment.getInt(position + 4);
+        long valueLength = segment.getInt(position + 8);
+
+        if (keyLength < 0 || valueLength < 0 || position + RECORD_HEADER + keyLength + valueLength > segment.capacity()) {
+            return false;
+        }
+
+        int length = (int) (RECORD_HEADER + keyLength + valueLength);
+        return segment.getInt(position + 12) == this.checksum(segment, position, length);
+    }
+
+    private int recordLength(long record) {
+        return RECORD_HEADER + this.readInt(record + 4) + this.readInt(record + 8);
+    }
+
+    private int checksum(MappedByteBuffer segment, int position, int length) {
+        this.crc.reset();
+        this.crc.update(segment.duplicate().position(position).limit(position + 12));
+        this.crc.update(segment.duplicate().position(position + RECORD_HEADER).limit(position + length));
+
+        return (int) this.crc.getValue();
+    }
+
+    private long allocate(long length, boolean withinSegment) {
+        long offset = (this.arenaEnd + 7) & ~7L;
+
+        if (withinSegment && (offset >>> SEGMENT_SHIFT) != ((offset + length - 1) >>> SEGMENT_SHIFT)) {
+            if (length > SEGMENT_SIZE) {
+                throw new IllegalArgumentException("Key and value exceed " + SEGMENT_SIZE + " bytes");
+            }
+
+            offset = ((offset >>> SEGMENT_SHIFT) + 1) << SEGMENT_SHIFT;
+        }
+
+        if (offset + length > OFFSET_MASK) {
+            throw new IllegalStateException("Hash table file is full");
+        }
+
+        try {
+            this.ensureMapped(offset + length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // A fresh index block must read as empty even when it reuses space from a dead record.
+        if (!withinSegment) {
+            for (long position = offset; position < offset + length; position += 8) {
+                this.writeLong(position, 0);
+            }
+        }
+
+        this.arenaEnd = offset + length;
+        return offset;
+    }
+
+    private void ensureMapped(long end) throws IOException {
+        if (end <= this.fileLength) {
+            return;
+        }
+
+        long length = Math.max(end, Math.max(this.fileLength * 2, INITIAL_FILE_SIZE));
+        if (this.file.length() < length) {
+            this.file.setLength(length);
+        }
+
+        int count = (int) ((length + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] remapped = new MappedByteBuffer[count];
+
+        for (int i = 0; i < count; i++) {
+            long start = (long) i << SEGMENT_SHIFT;
+            long segmentLength = Math.min(SEGMENT_SIZE, length - start);
+
+            if (i < this.segments.length && this.segments[i].capacity() == segmentLength) {
+                remapped[i] = this.segments[i];
+            } else {
+                remapped[i] = this.channel.map(FileChannel.MapMode.READ_WRITE, start, segmentLength);
+            }
+        }
+
+        this.segments = remapped;
+        this.fileLength = length;
+    }
+
+    private void markDirty() {
+        if (this.dirty) {
+            return;
+        }
+
+        try {
+            this.writeHeader(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.dirty = true;
+    }
+
+    private void writeHeader(boolean clean) throws IOException {
+        this.generation++;
+        int position = (int) (this.generation & 1) * HEADER_SLOT_SIZE;
+        MappedByteBuffer header = this.segments[0];
+
+        header.putLong(position, MAGIC);
+        header.putLong(position + 8, this.generation);
+        header.putLong(position + 16, this.indexOffset);
+        header.putLong(position + 24, this.capacity);
+        header.putLong(position + 32, this.arenaEnd);
+        header.putLong(position + 40, this.size);
+        header.putInt(position + 48, clean ? FLAG_CLEAN : 0);
+        header.putInt(position + 52, this.headerChecksum(position));
+
+        header.force(position, HEADER_SLOT_SIZE);
+    }
+
+    // Returns the generation of a valid header slot, -1 if it is empty or torn
+    private long readHeader(int position) {
+        MappedByteBuffer header = this.segments[0];
+
+        if (header.getLong(position) != MAGIC || header.getInt(position + 52) != this.headerChecksum(position)) {
+            return -1;
+        }
+
+        return header.getLong(position + 8);
+    }
+
+    private boolean applyHeader(int position) {
+        MappedByteBuffer header = this.segments[0];
+
+        this.generation = header.getLong(position + 8);
+        this.indexOffset = header.getLong(position + 16);
+        this.capacity = header.getLong(position + 24);
+        this.arenaEnd = header.getLong(position + 32);
+        this.size = (int) header.getLong(position + 40);
+
+        return (header.getInt(position + 48) & FLAG_CLEAN) != 0;
+    }
+
+    private int headerChecksum(int position) {
+        this.crc.reset();
+        this.crc.update(this.segments[0].duplicate().position(position).limit(position + 52));
+
+        return (int) this.crc.getValue();
+    }
+
+    private void force() {
+        for (MappedByteBuffer segment : this.segments) {
+            segment.force();
+        }
+    }
+
+    private MappedByteBuffer segmentFor(long offset) {
+        return this.segments[(int) (offset >>> SEGMENT_SHIFT)];
+    }
+
+    private long readLong(long offset) {
+        return this.segmentFor(offset).getLong((int) (offset & (SEGMENT_SIZE - 1)));
+    }
+
+    private int readInt(long offset) {
+        return this.segmentFor(offset).getInt((int) (offset & (SEGMENT_SIZE - 1)));
+    }
+
+    private void writeLong(long offset, long value) {
+        this.segmentFor(offset).putLong((int) (offset & (SEGMENT_SIZE - 1)), value);
+    }
+
+    private static long indexCapacityFor(long entries) {
+        long capacity = INITIAL_CAPACITY;
+        while (entries > LOAD_FACTOR * capacity) {
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+
+    private static long tag(int hash) {
+        return ((long) (hash >>> 8) << OFFSET_BITS);
+    }
+
+    // String.hashCode() is specified, so the same key lands in the same slot after a restart
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+
+        return hash;
+    }
+
+    private class MappedIterator implements Iterator<KeyValue<String, String>> {
+        private long pointer = 0;
+
+        @Override
+        public boolean hasNext() {
+            ensureOpen();
+
+            while (this.pointer < capacity && readLong(indexOffset + 8 * this.pointer) == 0) {
+                this.pointer++;
+            }
+
+            return this.pointer < capacity;
+        }
+
+        @Override
+        public KeyValue<String, String> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            long record = readLong(indexOffset + 8 * this.pointer++) & OFFSET_MASK;
+            return new KeyValue<>(readKey(record), readValue(record));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class MappedHashTableTests {
+
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        this.path = Files.createTempFile("mapped-hash-table", ".bin");
+        Files.delete(this.path);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.path);
+    }
+
+    @Test
+    public void PutGetAndReplace_ShouldWorkCorrectly() throws IOException {
+        try (MappedHashTable table = MappedHashTable.open(this.path)) {
+            // Act
+            table.put("Peter", "5");
+            table.put("Maria", "6");
+            table.put("Peter", "55");
+            table.put("\u041a\u0438\u0440\u0438\u043b", "\u00fcn\u00efc\u00f8d\u00e9");
+
+            // Assert
+            Assert.assertEquals(3, table.size());
+            Assert.assertEquals("55", table.get("Peter"));
+            Assert.assertEquals("6", table.get("Maria"));
+            Assert.assertEquals("\u00fcn\u00efc\u00f8d\u00e9", table.get("\u041a\u0438\u0440\u0438\u043b"));
+            Assert.assertNull(table.get("George"));
+
+            Map<String, String> iterated = new HashMap<>();
+            for (KeyValue<String, String> element : table) {
+                iterated.put(element.getKey(), element.getValue());
+            }
+            Assert.assertEquals(Map.of("Peter", "55", "Maria", "6", "\u041a\u0438\u0440\u0438\u043b", "\u00fcn\u00efc\u00f8d\u00e9"), iterated);
+        }
+    }
+
+    @Test
+    public void Reopen_CleanFile_ShouldOnlyReadTheHeader() throws IOException {
+        // Arrange
+        try (MappedHashTable table = MappedHashTable.open(this.path)) {
+            for (int i = 0; i < 500; i++) {
+                table.put("key" + i, "value" + i);
+            }
+        }
+        byte[] closed = Files.readAllBytes(this.path);
+
+        // Act
+        MappedHashTable reopened = MappedHashTable.open(this.path);
+        String value = reopened.get("key123");
+        int size = reopened.size();
+        long capacity = reopened.capacity();
+
+        // Assert
+        Assert.assertEquals("value123", value);
+        Assert.assertEquals(500, size);
+        Assert.assertEquals(1024, capacity);
+        Assert.assertArrayEquals(closed, Files.readAllBytes(this.path));
+        reopened.close();
+    }
+
+    @Test
+    public void Put_PastTheInitialFile_ShouldGrowAndRemap() throws IOException {
+        // Arrange
+        String padding = "x".repeat(100);
+        long initialLength;
+
+        // Act
+        try (MappedHashTable table = MappedHashTable.open(this.path)) {
+            initialLength = Files.size(this.path);
+
+            for (int i = 0; i < 20000; i++) {
+                table.put("key" + i, padding + i);
+            }
+
+            // Assert
+            Assert.assertTrue(Files.size(this.path) > initialLength);
+            Assert.assertTrue(table.capacity() > 1024);
+            for (int i = 0; i < 20000; i++) {
+                Assert.assertEquals(padding + i, table.get("key" + i));
+            }
+        }
+
+        try (MappedHashTable reopened = MappedHashTable.open(this.path)) {
+            Assert.assertEquals(20000, reopened.size());
+            for (int i = 0; i < 20000; i += 7) {
+                Assert.assertEquals(padding + i, reopened.get("key" + i));
+            }
+        }
+    }
+
+    @Test
+    public void Open_NeverClosedFile_ShouldRecoverIntactRecordsAndDropTornOnes() throws IOException {
+        // Arrange
+        MappedHashTable crashed = MappedHashTable.open(this.path);
+        crashed.put("flushed", "1");
+        crashed.flush();
+        crashed.put("unflushed", "2");
+        crashed.put("torn", "torn-record-value");
+        // The process "dies" here: no flush, no close, and the last record loses a byte.
+        corrupt("torn-record-value");
+
+        // Act
+        try (MappedHashTable recovered = MappedHashTable.open(this.path)) {
+            // Assert
+            Assert.assertEquals(2, recovered.size());
+            Assert.assertEquals("1", recovered.get("flushed"));
+            Assert.assertEquals("2", recovered.get("unflushed"));
+            Assert.assertNull(recovered.get("torn"));
+
+            recovered.put("torn", "rewritten");
+            Assert.assertEquals("rewritten", recovered.get("torn"));
+        }
+
+        try (MappedHashTable reopened = MappedHashTable.open(this.path)) {
+            Assert.assertEquals(3, reopened.size());
+            Assert.assertEquals("rewritten", reopened.get("torn"));
+        }
+    }
+
+    @Test
+    public void Close_Twice_ShouldDoNothing() throws IOException {
+        // Arrange
+        MappedHashTable table = MappedHashTable.open(this.path);
+        table.put("Peter", "5");
+
+        // Act
+        table.close();
+        table.close();
+
+        // Assert
+        try (MappedHashTable reopened = MappedHashTable.open(this.path)) {
+            Assert.assertEquals("5", reopened.get("Peter"));
+        }
+    }
+
+    @Test
+    public void Operations_AfterClose_ShouldThrowIllegalState() throws IOException {
+        // Arrange
+        MappedHashTable table = MappedHashTable.open(this.path);
+        table.close();
+
+        // Act & Assert
+        assertClosed(() -> table.put("Peter", "5"));
+        assertClosed(() -> table.get("Peter"));
+        assertClosed(table::flush);
+        assertClosed(table::iterator);
+    }
+
+    // Flips the first byte of the given value where it sits in the file
+    private void corrupt(String value) throws IOException {
+        byte[] bytes = Files.readAllBytes(this.path);
+        byte[] needle = value.getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i + needle.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + needle.length, needle, 0, needle.length)) {
+                try (RandomAccessFile file = new RandomAccessFile(this.path.toFile(), "rw")) {
+                    file.seek(i);
+                    file.write(bytes[i] ^ 0xFF);
+                }
+                return;
+            }
+        }
+
+        Assert.fail("Value not found in the file: " + value);
+    }
+
+    private static void assertClosed(Runnable operation) {
+        try {
+            operation.run();
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+}
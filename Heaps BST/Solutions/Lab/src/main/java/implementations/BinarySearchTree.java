@@ -2,9 +2,15 @@ package implementations;
 
 import interfaces.AbstractBinarySearchTree;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 public class BinarySearchTree<E extends Comparable<E>> implements AbstractBinarySearchTree<E> {
     private Node<E> root;
@@ -16,6 +22,91 @@ public class BinarySearchTree<E extends Comparable<E>> implements AbstractBinary
         this.root = node;
     }
 
+    /**
+     * Builds a perfectly balanced tree from the elements in O(n): the middle element becomes the
+     * root and each half becomes a subtree the same way. Input that is already sorted is used as
+     * it is, anything else is sorted first; duplicates are dropped, as {@link #insert} would.
+     * Large halves are built in parallel on the common fork-join pool.
+     */
+    public static <E extends Comparable<E>> BinarySearchTree<E> bulkLoad(Collection<E> elements) {
+        @SuppressWarnings("unchecked")
+        E[] sorted = (E[]) elements.toArray(new Comparable[0]);
+
+        return bulkLoadOwned(sorted);
+    }
+
+    public static <E extends Comparable<E>> BinarySearchTree<E> bulkLoad(E[] elements) {
+        return bulkLoadOwned(elements.clone());
+    }
+
+    // Sorts and compacts the array in place, so it must be a copy the caller does not use.
+    private static <E extends Comparable<E>> BinarySearchTree<E> bulkLoadOwned(E[] elements) {
+        // Strictly ascending input is already sorted and free of duplicates.
+        int distinct = elements.length;
+
+        if (!isStrictlyAscending(elements)) {
+            Arrays.parallelSort(elements);
+
+            distinct = 0;
+            for (int i = 0; i < elements.length; i++) {
+                if (distinct == 0 || elements[i].compareTo(elements[distinct - 1]) != 0) {
+                    elements[distinct++] = elements[i];
+                }
+            }
+        }
+
+        return new BinarySearchTree<>(ForkJoinPool.commonPool().invoke(new BuildTask<>(elements, 0, distinct)));
+    }
+
+    private static <E extends Comparable<E>> boolean isStrictlyAscending(E[] elements) {
+        for (int i = 1; i < elements.length; i++) {
+            if (elements[i - 1].compareTo(elements[i]) >= 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // Builds the subtree of the sorted range [from, to).
+    private static class BuildTask<E> extends RecursiveTask<Node<E>> {
+        // Ranges below this are not worth a task of their own.
+        private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+        private final E[] sorted;
+        private final int from;
+        private final int to;
+
+        BuildTask(E[] sorted, int from, int to) {
+            this.sorted = sorted;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Node<E> compute() {
+            if (this.to - this.from <= SEQUENTIAL_THRESHOLD) {
+                return build(this.sorted, this.from, this.to);
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            BuildTask<E> left = new BuildTask<>(this.sorted, this.from, middle);
+            left.fork();
+            Node<E> right = new BuildTask<>(this.sorted, middle + 1, this.to).compute();
+
+            return new Node<>(this.sorted[middle], left.join(), right);
+        }
+
+        private static <E> Node<E> build(E[] sorted, int from, int to) {
+            if (from >= to) {
+                return null;
+            }
+
+            int middle = (from + to) >>> 1;
+            return new Node<>(sorted[middle], build(sorted, from, middle), build(sorted, middle + 1, to));
+        }
+    }
+
     @Override
     public void insert(E element) {
         Node<E> newNode = new Node<>(element, null, null);
@@ -100,6 +191,31 @@ public class BinarySearchTree<E extends Comparable<E>> implements AbstractBinary
         );
     }
 
+    // Read-only copy laid out for searching, see EytzingerTree
+    public EytzingerTree<E> freeze() {
+        return new EytzingerTree<>(this.inOrder());
+    }
+
+    // Without recursion, since inserting sorted input leaves a tree as deep as it is large
+    List<E> inOrder() {
+        List<E> elements = new ArrayList<>();
+        Deque<Node<E>> path = new ArrayDeque<>();
+        Node<E> node = this.root;
+
+        while (node != null || !path.isEmpty()) {
+            while (node != null) {
+                path.push(node);
+                node = node.leftChild;
+            }
+
+            node = path.pop();
+            elements.add(node.value);
+            node = node.rightChild;
+        }
+
+        return elements;
+    }
+
     @Override
     public Node<E> getRoot() {
         return this.root;
@@ -0,0 +1,73 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link EytzingerTree} for primitive longs, kept in a plain {@code long[]} in Eytzinger order:
+ * no boxing, and the top levels of every search share a few array slots that stay cached.
+ * <p>
+ * The sixteen nodes four levels below k sit next to each other at indexes 16k to 16k + 15, but
+ * Java gives no way to prefetch them, and the array's payload is not 64-byte aligned, so how many
+ * cache lines they span is up to the JVM.
+ */
+public class EytzingerLongTree {
+    private final long[] tree;
+
+    private EytzingerLongTree(long[] sorted) {
+        this.tree = new long[sorted.length + 1];
+        this.fill(sorted, 0, 1);
+    }
+
+    // Sorts and deduplicates a copy of the values.
+    public static EytzingerLongTree of(long... values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[distinct - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+
+        return new EytzingerLongTree(Arrays.copyOf(sorted, distinct));
+    }
+
+    public static EytzingerLongTree from(BinarySearchTree<Long> binarySearchTree) {
+        List<Long> sorted = binarySearchTree.inOrder();
+        long[] values = new long[sorted.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sorted.get(i);
+        }
+
+        return new EytzingerLongTree(values);
+    }
+
+    private int fill(long[] sorted, int next, int k) {
+        if (k < this.tree.length) {
+            next = this.fill(sorted, next, 2 * k);
+            this.tree[k] = sorted[next++];
+            next = this.fill(sorted, next, 2 * k + 1);
+        }
+
+        return next;
+    }
+
+    public boolean contains(long element) {
+        int k = 1;
+
+        while (k < this.tree.length) {
+            k = 2 * k + (this.tree[k] < element ? 1 : 0);
+        }
+
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+
+        return k != 0 && this.tree[k] == element;
+    }
+
+    public int size() {
+        return this.tree.length - 1;
+    }
+}
@@ -0,0 +1,54 @@
+package implementations;
+
+import java.util.List;
+
+/**
+ * Immutable search tree stored in one array in Eytzinger (breadth-first) order, made by
+ * {@link BinarySearchTree#freeze()}.
+ * <p>
+ * The root sits at index 1 and the children of k at 2k and 2k + 1, so a search walks down the
+ * array with no pointers to chase, and the first levels that every search goes through share a few
+ * cache lines. The descent always takes the same number of steps: it keeps going right while the
+ * node is smaller than the element, which the JIT can turn into a conditional move instead of a
+ * branch, and the match is checked once at the end.
+ */
+public class EytzingerTree<E extends Comparable<E>> {
+    // Index 0 is unused, so the index arithmetic stays plain shifts.
+    private final Object[] tree;
+
+    // The elements must be sorted ascending and distinct.
+    EytzingerTree(List<E> sorted) {
+        this.tree = new Object[sorted.size() + 1];
+        this.fill(sorted, 0, 1);
+    }
+
+    // Visits the slots in order, which hands out the sorted elements in Eytzinger order.
+    private int fill(List<E> sorted, int next, int k) {
+        if (k < this.tree.length) {
+            next = this.fill(sorted, next, 2 * k);
+            this.tree[k] = sorted.get(next++);
+            next = this.fill(sorted, next, 2 * k + 1);
+        }
+
+        return next;
+    }
+
+    @SuppressWarnings("unchecked")
+    public boolean contains(E element) {
+        int k = 1;
+
+        while (k < this.tree.length) {
+            k = 2 * k + (((E) this.tree[k]).compareTo(element) < 0 ? 1 : 0);
+        }
+
+        // Undo the right turns taken after the last left one: that left turn was at the smallest
+        // node not less than the element.
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+
+        return k != 0 && ((E) this.tree[k]).compareTo(element) == 0;
+    }
+
+    public int size() {
+        return this.tree.length - 1;
+    }
+}
@@ -2,83 +2,129 @@ package implementations;
 
 import interfaces.AbstractQueue;
 
-import java.util.ArrayList;
-import java.util.List;
-
+import java.util.Arrays;
+
+/**
+ * Max-priority queue kept as a d-ary heap in a plain {@code Object[]}.
+ * <p>
+ * The children of index i sit at {@code d * i + 1} to {@code d * i + d}. A wider heap is
+ * shallower, so a poll moves through fewer levels, while its children share one or two cache
+ * lines. Both sifts carry a hole instead of swapping: every level costs a single write and the
+ * moving element is stored once, at the end.
+ */
 public class PriorityQueue<E extends Comparable<E>> implements AbstractQueue<E> {
-    private final List<E> elements = new ArrayList<>();
+    private static final int INITIAL_CAPACITY = 16;
+
+    // log2 of the arity, so the index arithmetic is shifts
+    private final int shift;
+    private Object[] elements;
+    private int size;
+
+    public PriorityQueue() {
+        this(2);
+    }
+
+    // The arity must be 2, 4 or 8.
+    public PriorityQueue(int arity) {
+        if (arity != 2 && arity != 4 && arity != 8) {
+            throw new IllegalArgumentException("Arity must be 2, 4 or 8: " + arity);
+        }
+
+        this.shift = Integer.numberOfTrailingZeros(arity);
+        this.elements = new Object[INITIAL_CAPACITY];
+    }
 
     @Override
     public int size() {
-        return this.elements.size();
+        return this.size;
     }
 
     public boolean isEmpty() {
         return this.size() == 0;
     }
 
+    public int arity() {
+        return 1 << this.shift;
+    }
+
     @Override
     public void add(E element) {
-        this.elements.add(element);
+        if (this.size == this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, 2 * this.size);
+        }
 
-        swim(this.size() - 1);
+        swim(this.size++, element);
     }
 
-    private void swim(int index) {
-        while (index > 0) {
-            int parentIndex = (index - 1) / 2;
+    // Moves the hole up past every smaller parent, then drops the element into it.
+    private void swim(int hole, E element) {
+        while (hole > 0) {
+            int parentIndex = (hole - 1) >>> this.shift;
+            E parent = elementAt(parentIndex);
 
-            if (isBiggerThan(index, parentIndex)) {
-                swap(index, parentIndex);
-                index = parentIndex;
-            } else {
+            if (element.compareTo(parent) <= 0) {
                 break;
             }
+
+            this.elements[hole] = parent;
+            hole = parentIndex;
         }
+
+        this.elements[hole] = element;
     }
 
     @Override
     public E peek() {
-        return this.elements.get(0);
+        ensureNonEmpty();
+
+        return elementAt(0);
     }
 
     @Override
     public E poll() {
         ensureNonEmpty();
 
-        E poppedElement = this.elements.get(0);
-        this.elements.set(0, this.elements.get(this.size() - 1));
-        this.elements.remove(this.size() - 1);
+        E poppedElement = elementAt(0);
+        E last = elementAt(--this.size);
+        this.elements[this.size] = null;
+
+        if (this.size > 0) {
+            sink(0, last);
+        }
 
-        sink(0);
         return poppedElement;
     }
 
-    private void sink(int index) {
-        while (isValidIndex(index)) {
-            int firstChildIndex = index * 2 + 1;
-            int secondChildIndex = index * 2 + 2;
+    // Moves the hole down towards the biggest child while that child beats the element.
+    private void sink(int hole, E element) {
+        while (true) {
+            int firstChildIndex = (hole << this.shift) + 1;
 
-            if (isValidIndex(firstChildIndex)) {
+            if (firstChildIndex >= this.size) {
+                break;
+            }
 
-                int maxChildIndex;
+            int lastChildIndex = Math.min(firstChildIndex + (1 << this.shift), this.size);
+            int maxChildIndex = firstChildIndex;
+            E maxChild = elementAt(firstChildIndex);
 
-                if (isValidIndex(secondChildIndex) && isBiggerThan(secondChildIndex, firstChildIndex)) {
-                    maxChildIndex = secondChildIndex;
-                } else {
-                    maxChildIndex = firstChildIndex;
+            for (int child = firstChildIndex + 1; child < lastChildIndex; child++) {
+                E candidate = elementAt(child);
+                if (candidate.compareTo(maxChild) > 0) {
+                    maxChild = candidate;
+                    maxChildIndex = child;
                 }
+            }
 
-                if (isBiggerThan(maxChildIndex, index)) {
-                    swap(index, maxChildIndex);
-                    index = maxChildIndex;
-                } else {
-                    break;
-                }
-            } else {
+            if (maxChild.compareTo(element) <= 0) {
                 break;
             }
+
+            this.elements[hole] = maxChild;
+            hole = maxChildIndex;
         }
+
+        this.elements[hole] = element;
     }
 
     private void ensureNonEmpty() {
@@ -87,17 +133,8 @@ public class PriorityQueue<E extends Comparable<E>> implements AbstractQueue<E>
         }
     }
 
-    private boolean isBiggerThan(int firstIndex, int secondIndex) {
-        return this.elements.get(firstIndex).compareTo(this.elements.get(secondIndex)) > 0;
-    }
-
-    private void swap(int indexA, int indexB) {
-        E oldElementA = this.elements.get(indexA);
-        this.elements.set(indexA, this.elements.get(indexB));
-        this.elements.set(indexB, oldElementA);
-    }
-
-    private boolean isValidIndex(int index) {
-        return 0 <= index && index < this.size();
+    @SuppressWarnings("unchecked")
+    private E elementAt(int index) {
+        return (E) this.elements[index];
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package benchmark;
 
 import implementations.BinarySearchTree;
+import implementations.EytzingerLongTree;
+import implementations.EytzingerTree;
 import implementations.PriorityQueue;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -10,6 +12,10 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 @BenchmarkMode(Mode.AverageTime)
@@ -87,6 +93,16 @@ public class BenchmarkTests {
         }
     }
 
+    @Benchmark
+    public BinarySearchTree<Integer> testBulkLoadInBST() {
+        Integer[] numbers = new Integer[(int) n];
+        for (int i = 0; i < n; i++) {
+            numbers[i] = i;
+        }
+
+        return BinarySearchTree.bulkLoad(numbers);
+    }
+
     @Benchmark
     public void testFindInArrayListWorstCase() {
         arrayList.indexOf(n + 1);
@@ -104,4 +120,185 @@ public class BenchmarkTests {
     public void testFindInBinarySearchTreeWorstCase() {
         binarySearchTree.contains(n + 1);
     }
+
+    /**
+     * Adding size elements to a d-ary PriorityQueue, and polling them all back out, for every
+     * arity. The elements are boxed up front so the boxing is not measured.
+     */
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    // NOTE: 10^8 elements need about 6GB, raise -Xmx before enabling it.
+    @Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx8G"})
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    @State(Scope.Benchmark)
+    public static class DaryHeap {
+
+        @Param({"2", "4", "8"})
+        private int arity;
+
+        @Param({"100000", "1000000", "10000000"/*, "100000000"*/})
+        private int size;
+
+        private Integer[] elements;
+        private PriorityQueue<Integer> filled;
+
+        @Setup(Level.Trial)
+        public void setupElements() {
+            Random random = new Random(42);
+            this.elements = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                this.elements[i] = random.nextInt();
+            }
+        }
+
+        // Polling empties the queue, so every shot gets a full one.
+        @Setup(Level.Iteration)
+        public void setupQueue() {
+            this.filled = new PriorityQueue<>(arity);
+            for (Integer element : this.elements) {
+                this.filled.add(element);
+            }
+        }
+
+        @Benchmark
+        public PriorityQueue<Integer> testAdd() {
+            PriorityQueue<Integer> queue = new PriorityQueue<>(arity);
+            for (Integer element : this.elements) {
+                queue.add(element);
+            }
+
+            return queue;
+        }
+
+        @Benchmark
+        public void testPoll(Blackhole blackhole) {
+            while (!this.filled.isEmpty()) {
+                blackhole.consume(this.filled.poll());
+            }
+        }
+    }
+
+    /**
+     * Building a BinarySearchTree of size elements in one bulk load, from sorted and from shuffled
+     * input. Inserting them one by one is left out: sorted inserts cost O(n^2) at these sizes.
+     */
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    // NOTE: 10^8 elements need about 8GB, raise -Xmx before enabling it.
+    @Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx8G"})
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    @State(Scope.Benchmark)
+    public static class BulkLoad {
+
+        @Param({"1000000", "10000000"/*, "100000000"*/})
+        private int size;
+
+        private Long[] sorted;
+        private Long[] shuffled;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            this.sorted = new Long[size];
+            for (int i = 0; i < size; i++) {
+                this.sorted[i] = (long) i;
+            }
+
+            this.shuffled = this.sorted.clone();
+            Collections.shuffle(Arrays.asList(this.shuffled), new Random(42));
+        }
+
+        @Benchmark
+        public BinarySearchTree<Long> testBulkLoadSorted() {
+            return BinarySearchTree.bulkLoad(this.sorted);
+        }
+
+        @Benchmark
+        public BinarySearchTree<Long> testBulkLoadShuffled() {
+            return BinarySearchTree.bulkLoad(this.shuffled);
+        }
+    }
+
+    /**
+     * Contains, hit and miss, on a pointer based BinarySearchTree against its frozen Eytzinger
+     * copies. The trees hold the even numbers below 2 * size, so even queries hit and odd ones miss.
+     */
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    // NOTE: 10^8 elements need about 8GB for the BinarySearchTree alone, raise -Xmx before enabling it.
+    @Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx8G"})
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    @State(Scope.Benchmark)
+    public static class FrozenContains {
+
+        @Param({"1000000", "10000000"/*, "100000000"*/})
+        private int size;
+
+        private BinarySearchTree<Long> binarySearchTree;
+        private EytzingerTree<Long> eytzingerTree;
+        private EytzingerLongTree eytzingerLongTree;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            // Shuffled insertion keeps the pointer tree about 2 log n deep.
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = 2L * i;
+            }
+            Random random = new Random(42);
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                long swap = values[i];
+                values[i] = values[j];
+                values[j] = swap;
+            }
+
+            this.binarySearchTree = new BinarySearchTree<>();
+            for (long value : values) {
+                this.binarySearchTree.insert(value);
+            }
+            this.eytzingerTree = this.binarySearchTree.freeze();
+            this.eytzingerLongTree = EytzingerLongTree.of(values);
+        }
+
+        private long hit() {
+            return 2L * ThreadLocalRandom.current().nextInt(size);
+        }
+
+        private long miss() {
+            return 2L * ThreadLocalRandom.current().nextInt(size) + 1;
+        }
+
+        @Benchmark
+        public boolean testContainsHitInBinarySearchTree() {
+            return this.binarySearchTree.contains(this.hit());
+        }
+
+        @Benchmark
+        public boolean testContainsMissInBinarySearchTree() {
+            return this.binarySearchTree.contains(this.miss());
+        }
+
+        @Benchmark
+        public boolean testContainsHitInEytzingerTree() {
+            return this.eytzingerTree.contains(this.hit());
+        }
+
+        @Benchmark
+        public boolean testContainsMissInEytzingerTree() {
+            return this.eytzingerTree.contains(this.miss());
+        }
+
+        @Benchmark
+        public boolean testContainsHitInEytzingerLongTree() {
+            return this.eytzingerLongTree.contains(this.hit());
+        }
+
+        @Benchmark
+        public boolean testContainsMissInEytzingerLongTree() {
+            return this.eytzingerLongTree.contains(this.miss());
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package implementations;
+
+import interfaces.AbstractBinarySearchTree;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BinarySearchTreeBulkLoadTest {
+
+    @Test
+    public void testBulkLoadSortedInputIsBalanced() {
+        List<Integer> sorted = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            sorted.add(i);
+        }
+
+        BinarySearchTree<Integer> bst = BinarySearchTree.bulkLoad(sorted);
+
+        // 2^17 > 100000, so a perfectly balanced tree is 17 levels deep.
+        assertEquals(17, height(bst.getRoot()));
+        assertEquals(sorted, bst.inOrder());
+        assertTrue(bst.contains(0));
+        assertTrue(bst.contains(99999));
+        assertFalse(bst.contains(100000));
+    }
+
+    @Test
+    public void testBulkLoadUnsortedInputWithDuplicates() {
+        Random random = new Random(3);
+        Integer[] elements = new Integer[50000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = random.nextInt(20000);
+        }
+        Integer[] original = elements.clone();
+
+        BinarySearchTree<Integer> bst = BinarySearchTree.bulkLoad(elements);
+
+        BinarySearchTree<Integer> inserted = new BinarySearchTree<>();
+        for (Integer element : elements) {
+            inserted.insert(element);
+        }
+        List<Integer> expected = inserted.inOrder();
+        assertEquals(expected, bst.inOrder());
+        assertTrue(height(bst.getRoot()) <= 32 - Integer.numberOfLeadingZeros(expected.size()));
+        // The caller's array is left as it was.
+        assertArrayEquals(original, elements);
+    }
+
+    @Test
+    public void testBulkLoadEmptyAndSingle() {
+        BinarySearchTree<String> empty = BinarySearchTree.bulkLoad(Collections.<String>emptyList());
+        BinarySearchTree<String> single = BinarySearchTree.bulkLoad(List.of("a"));
+
+        assertNull(empty.getRoot());
+        assertFalse(empty.contains("a"));
+        assertEquals("a", single.getValue());
+    }
+
+    private static int height(AbstractBinarySearchTree.Node<Integer> node) {
+        if (node == null) {
+            return 0;
+        }
+
+        return 1 + Math.max(height(node.leftChild), height(node.rightChild));
+    }
+}
@@ -0,0 +1,74 @@
+package implementations;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class EytzingerTreeTest {
+
+    @Test
+    public void testFreezeKeepsEveryElement() {
+        Random random = new Random(1);
+        BinarySearchTree<Integer> bst = new BinarySearchTree<>();
+        for (int i = 0; i < 1000; i++) {
+            bst.insert(random.nextInt(5000) * 2);
+        }
+
+        EytzingerTree<Integer> frozen = bst.freeze();
+
+        for (int i = -3; i < 10003; i++) {
+            assertEquals(bst.contains(i), frozen.contains(i));
+        }
+    }
+
+    @Test
+    public void testFreezeSortedInsertionAndEmptyTree() {
+        BinarySearchTree<Integer> bst = new BinarySearchTree<>();
+        assertEquals(0, bst.freeze().size());
+        assertFalse(bst.freeze().contains(1));
+
+        // Sorted input makes a tree as deep as it is large.
+        for (int i = 0; i < 30000; i++) {
+            bst.insert(i);
+        }
+
+        EytzingerTree<Integer> frozen = bst.freeze();
+
+        assertEquals(30000, frozen.size());
+        assertTrue(frozen.contains(0));
+        assertTrue(frozen.contains(29999));
+        assertFalse(frozen.contains(30000));
+        assertFalse(frozen.contains(-1));
+    }
+
+    @Test
+    public void testLongTreeMatchesBoxedTree() {
+        Random random = new Random(2);
+        BinarySearchTree<Long> bst = new BinarySearchTree<>();
+        for (int i = 0; i < 777; i++) {
+            bst.insert((long) random.nextInt(3000));
+        }
+
+        EytzingerTree<Long> frozen = bst.freeze();
+        EytzingerLongTree primitive = EytzingerLongTree.from(bst);
+
+        assertEquals(frozen.size(), primitive.size());
+        for (long i = -2; i < 3002; i++) {
+            assertEquals(frozen.contains(i), primitive.contains(i));
+        }
+    }
+
+    @Test
+    public void testLongTreeOfDeduplicates() {
+        EytzingerLongTree tree = EytzingerLongTree.of(5, 1, 5, Long.MIN_VALUE, Long.MAX_VALUE, 1);
+
+        assertEquals(4, tree.size());
+        assertTrue(tree.contains(Long.MIN_VALUE));
+        assertTrue(tree.contains(Long.MAX_VALUE));
+        assertTrue(tree.contains(5));
+        assertFalse(tree.contains(2));
+        assertFalse(EytzingerLongTree.of().contains(0));
+    }
+}
@@ -4,7 +4,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.*;
 
@@ -36,4 +38,61 @@ public class PriorityQueueTest {
             assertEquals(expected[index++], queue.poll());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPollOrderForEveryArity() {
+        Random random = new Random(7);
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            elements.add(random.nextInt(1000));
+        }
+        List<Integer> expected = new ArrayList<>(elements);
+        expected.sort(Collections.reverseOrder());
+
+        for (int arity : new int[]{2, 4, 8}) {
+            PriorityQueue<Integer> priorityQueue = new PriorityQueue<>(arity);
+            for (Integer element : elements) {
+                priorityQueue.add(element);
+            }
+
+            assertEquals(arity, priorityQueue.arity());
+            assertEquals(elements.size(), priorityQueue.size());
+            List<Integer> polled = new ArrayList<>();
+            while (!priorityQueue.isEmpty()) {
+                Integer top = priorityQueue.peek();
+                polled.add(priorityQueue.poll());
+                assertEquals(top, polled.get(polled.size() - 1));
+            }
+            assertEquals(expected, polled);
+        }
+    }
+
+    @Test
+    public void testInterleavedAddAndPoll() {
+        PriorityQueue<Integer> priorityQueue = new PriorityQueue<>(4);
+        java.util.PriorityQueue<Integer> reference = new java.util.PriorityQueue<>(Collections.reverseOrder());
+        Random random = new Random(11);
+
+        for (int i = 0; i < 10000; i++) {
+            if (reference.isEmpty() || random.nextInt(3) > 0) {
+                int element = random.nextInt(500);
+                priorityQueue.add(element);
+                reference.add(element);
+            } else {
+                assertEquals(reference.poll(), priorityQueue.poll());
+            }
+        }
+
+        assertEquals(reference.size(), priorityQueue.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedArity() {
+        new PriorityQueue<Integer>(3);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPeekEmpty() {
+        new PriorityQueue<Integer>().peek();
+    }
+}